@@ -8,10 +8,13 @@ import java.util.stream.Collectors;
 public class ValidationException extends RuntimeException {
 
     private final Set<ConstraintViolation<?>> violations;
+    // Se compone la primera vez que se pide y se reutiliza
+    private volatile String message;
 
     public ValidationException(String message) {
         super(message);
         this.violations = Set.of();
+        this.message = message;
     }
 
     public ValidationException(Set<? extends ConstraintViolation<?>> violations) {
@@ -25,8 +28,13 @@ public class ValidationException extends RuntimeException {
 
     @Override
     public String getMessage() {
-        return violations.stream()
-                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
-                .collect(Collectors.joining(", "));
+        String renderedMessage = message;
+        if (renderedMessage == null) {
+            renderedMessage = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", "));
+            message = renderedMessage;
+        }
+        return renderedMessage;
     }
 }
@@ -0,0 +1,31 @@
+package es.cesguiro.domain.exception;
+
+// El libro cambió (o se borró) desde que se leyó: quien llama debe releerlo y reintentar
+public class VersionConflictException extends RuntimeException {
+
+    private final Long bookId;
+    private final Long expectedVersion;
+    private final Long actualVersion;
+
+    public VersionConflictException(Long bookId, Long expectedVersion, Long actualVersion) {
+        super(actualVersion == null
+                ? "Book with id " + bookId + " no longer exists"
+                : "Book with id " + bookId + " has version " + actualVersion + ", expected " + expectedVersion);
+        this.bookId = bookId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    // null si el libro ya no existe
+    public Long getActualVersion() {
+        return actualVersion;
+    }
+}
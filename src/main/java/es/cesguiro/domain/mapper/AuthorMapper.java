@@ -7,15 +7,12 @@ import es.cesguiro.domain.service.dto.AuthorDto;
 
 public class AuthorMapper {
 
-    private  static AuthorMapper instance;
+    private static final AuthorMapper INSTANCE = new AuthorMapper();
 
     private AuthorMapper() {}
 
     public static AuthorMapper getInstance() {
-        if (instance == null) {
-            instance = new AuthorMapper();
-        }
-        return instance;
+        return INSTANCE;
     }
 
     public Author fromAuthorEntityToAuthor(AuthorEntity authorEntity) {
@@ -66,6 +63,30 @@ public class AuthorMapper {
         );
     }
 
+    public AuthorDto fromAuthorEntityToAuthorDto(AuthorEntity authorEntity) {
+        if (authorEntity == null) {
+            return null;
+        }
+        return new AuthorDto(
+                authorEntity.id(),
+                authorEntity.name(),
+                authorEntity.nationality(),
+                authorEntity.biographyEs(),
+                authorEntity.biographyEn(),
+                authorEntity.birthYear(),
+                authorEntity.deathYear(),
+                authorEntity.slug()
+        );
+    }
+
+    // Para listados: sin nacionalidad, biografías ni años
+    public AuthorDto fromAuthorEntityToAuthorSummaryDto(AuthorEntity authorEntity) {
+        if (authorEntity == null) {
+            return null;
+        }
+        return new AuthorDto(authorEntity.id(), authorEntity.name(), null, null, null, null, null, authorEntity.slug());
+    }
+
     public Author fromAuthorDtoToAuthor(AuthorDto authorDto) {
         if (authorDto == null) {
             return null;
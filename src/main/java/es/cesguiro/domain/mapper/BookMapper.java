@@ -4,38 +4,73 @@ import es.cesguiro.domain.exception.BusinessException;
 import es.cesguiro.domain.exception.ValidationException;
 import es.cesguiro.domain.model.Author;
 import es.cesguiro.domain.model.Book;
+import es.cesguiro.domain.model.PriceCalculator;
+import es.cesguiro.domain.model.Publisher;
+import es.cesguiro.domain.model.ReferenceResolver;
 import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
 import es.cesguiro.domain.service.dto.AuthorDto;
 import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class BookMapper {
 
-    private static BookMapper INSTANCE;
+    // Inicialización en la carga de la clase: publicación segura entre hilos y sin comprobación en cada llamada
+    private static final BookMapper INSTANCE = new BookMapper();
 
     private BookMapper() {
     }
 
     public static BookMapper getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new BookMapper();
-        }
         return INSTANCE;
     }
 
+    // Editorial y autores no se mapean hasta que el Book los pide
     public Book fromBookEntityToBook(BookEntity bookEntity) {
         if (bookEntity == null) {
             return null;
         }
+        if (!hasReferenceIds(bookEntity)) {
+            return fromBookEntityToBookEagerly(bookEntity);
+        }
+        try {
+            return withVersion(new Book(
+                    bookEntity.id(),
+                    bookEntity.isbn(),
+                    bookEntity.titleEs(),
+                    bookEntity.titleEn(),
+                    bookEntity.synopsisEs(),
+                    bookEntity.synopsisEn(),
+                    bookEntity.basePrice(),
+                    bookEntity.discountPercentage(),
+                    bookEntity.cover(),
+                    bookEntity.publicationDate(),
+                    bookEntity.publisher() != null ? bookEntity.publisher().id() : null,
+                    bookEntity.authors() != null ? bookEntity.authors().stream().map(AuthorEntity::id).toList() : List.of(),
+                    new EntityReferences(bookEntity)
+            ), bookEntity.version());
+        } catch (ValidationException e) {
+            //Añadir al log
+            return null;
+        }
+    }
+
+    // Sin ids (entidades aún no guardadas) no hay referencias perezosas posibles
+    private Book fromBookEntityToBookEagerly(BookEntity bookEntity) {
         List<Author> authors = new ArrayList<>();
         if (bookEntity.authors() != null && !bookEntity.authors().isEmpty()) {
             authors = bookEntity.authors().stream().map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor).toList();
         }
         try {
-            return new Book(
+            return withVersion(new Book(
                     bookEntity.id(),
                     bookEntity.isbn(),
                     bookEntity.titleEs(),
@@ -48,7 +83,7 @@ public class BookMapper {
                     bookEntity.publicationDate(),
                     PublisherMapper.getInstance().fromPublisherEntityToPublisher(bookEntity.publisher()),
                     authors
-            );
+            ), bookEntity.version());
         } catch (ValidationException e) {
             //Añadir al log
             return null;
@@ -76,7 +111,8 @@ public class BookMapper {
                 book.getCover(),
                 book.getPublicationDate(),
                 PublisherMapper.getInstance().fromPublisherToPublisherEntity(book.getPublisher()),
-                authors
+                authors,
+                book.getVersion()
         );
     }
 
@@ -97,14 +133,149 @@ public class BookMapper {
                 book.getSynopsisEn(),
                 book.getBasePrice(),
                 book.getDiscountPercentage(),
-                book.calculateFinalPrice(),
+                book.getPrice(),
                 book.getCover(),
                 book.getPublicationDate(),
                 PublisherMapper.getInstance().fromPublisherToPublisherDto(book.getPublisher()),
-                authors
+                authors,
+                book.getVersion()
+        );
+    }
+
+    // Proyección de lectura: evita el Book intermedio y las copias de la lista de autores
+    public BookDto fromBookEntityToBookDto(BookEntity bookEntity) {
+        return fromBookEntityToBookDto(bookEntity, null);
+    }
+
+    // Con contexto, los autores y editoriales repetidos reutilizan el mismo DTO
+    public BookDto fromBookEntityToBookDto(BookEntity bookEntity, MappingContext context) {
+        return fromBookEntityToBookDto(bookEntity, context, BookProjection.DETAIL);
+    }
+
+    public BookDto fromBookEntityToBookDto(BookEntity bookEntity, MappingContext context, BookProjection projection) {
+        if (bookEntity == null) {
+            return null;
+        }
+        boolean detail = projection == BookProjection.DETAIL;
+        return new BookDto(
+                bookEntity.id(),
+                bookEntity.isbn(),
+                bookEntity.titleEs(),
+                bookEntity.titleEn(),
+                detail ? bookEntity.synopsisEs() : null,
+                detail ? bookEntity.synopsisEn() : null,
+                bookEntity.basePrice(),
+                bookEntity.discountPercentage(),
+                PriceCalculator.getInstance().calculateFinalPrice(bookEntity.basePrice(), bookEntity.discountPercentage()),
+                bookEntity.cover(),
+                bookEntity.publicationDate(),
+                context != null
+                        ? context.publisher(bookEntity.publisher())
+                        : PublisherMapper.getInstance().fromPublisherEntityToPublisherDto(bookEntity.publisher()),
+                detail
+                        ? fromAuthorEntitiesToAuthorDtos(bookEntity.authors(), context)
+                        : fromAuthorEntitiesToAuthorSummaryDtos(bookEntity.authors(), context),
+                bookEntity.version()
+        );
+    }
+
+    public List<BookDto> fromBookEntitiesToBookDtos(List<BookEntity> bookEntities) {
+        return fromBookEntitiesToBookDtos(bookEntities, BookProjection.DETAIL);
+    }
+
+    public List<BookDto> fromBookEntitiesToBookDtos(List<BookEntity> bookEntities, BookProjection projection) {
+        MappingContext context = new MappingContext();
+        BookDto[] bookDtos = new BookDto[bookEntities.size()];
+        for (int i = 0; i < bookDtos.length; i++) {
+            bookDtos[i] = fromBookEntityToBookDto(bookEntities.get(i), context, projection);
+        }
+        return Collections.unmodifiableList(Arrays.asList(bookDtos));
+    }
+
+    public BookSummaryDto fromBookSummaryEntityToBookSummaryDto(BookSummaryEntity bookSummaryEntity) {
+        if (bookSummaryEntity == null) {
+            return null;
+        }
+        return new BookSummaryDto(
+                bookSummaryEntity.id(),
+                bookSummaryEntity.isbn(),
+                bookSummaryEntity.titleEs(),
+                bookSummaryEntity.titleEn(),
+                bookSummaryEntity.price(),
+                bookSummaryEntity.cover(),
+                bookSummaryEntity.publisherName(),
+                bookSummaryEntity.authorNames()
         );
     }
 
+    public List<BookSummaryDto> fromBookSummaryEntitiesToBookSummaryDtos(List<BookSummaryEntity> bookSummaryEntities) {
+        BookSummaryDto[] bookSummaryDtos = new BookSummaryDto[bookSummaryEntities.size()];
+        for (int i = 0; i < bookSummaryDtos.length; i++) {
+            bookSummaryDtos[i] = fromBookSummaryEntityToBookSummaryDto(bookSummaryEntities.get(i));
+        }
+        return List.of(bookSummaryDtos);
+    }
+
+    private List<AuthorDto> fromAuthorEntitiesToAuthorDtos(List<AuthorEntity> authorEntities, MappingContext context) {
+        if (authorEntities == null || authorEntities.isEmpty()) {
+            return List.of();
+        }
+        AuthorDto[] authorDtos = new AuthorDto[authorEntities.size()];
+        for (int i = 0; i < authorDtos.length; i++) {
+            authorDtos[i] = context != null
+                    ? context.author(authorEntities.get(i))
+                    : AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(authorEntities.get(i));
+        }
+        // List.of produce una lista inmutable que el constructor de BookDto no vuelve a copiar
+        return List.of(authorDtos);
+    }
+
+    private List<AuthorDto> fromAuthorEntitiesToAuthorSummaryDtos(List<AuthorEntity> authorEntities, MappingContext context) {
+        if (authorEntities == null || authorEntities.isEmpty()) {
+            return List.of();
+        }
+        AuthorDto[] authorDtos = new AuthorDto[authorEntities.size()];
+        for (int i = 0; i < authorDtos.length; i++) {
+            authorDtos[i] = context != null
+                    ? context.authorSummary(authorEntities.get(i))
+                    : AuthorMapper.getInstance().fromAuthorEntityToAuthorSummaryDto(authorEntities.get(i));
+        }
+        // List.of produce una lista inmutable que el constructor de BookDto no vuelve a copiar
+        return List.of(authorDtos);
+    }
+
+    private static Book withVersion(Book book, Long version) {
+        book.setVersion(version);
+        return book;
+    }
+
+    private static boolean hasReferenceIds(BookEntity bookEntity) {
+        if (bookEntity.publisher() != null && bookEntity.publisher().id() == null) {
+            return false;
+        }
+        if (bookEntity.authors() != null) {
+            for (AuthorEntity authorEntity : bookEntity.authors()) {
+                if (authorEntity == null || authorEntity.id() == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Resuelve las referencias con las entidades que ya trae el BookEntity
+    private record EntityReferences(BookEntity bookEntity) implements ReferenceResolver {
+
+        @Override
+        public Publisher publisher(Long publisherId) {
+            return PublisherMapper.getInstance().fromPublisherEntityToPublisher(bookEntity.publisher());
+        }
+
+        @Override
+        public List<Author> authors(List<Long> authorIds) {
+            return bookEntity.authors().stream().map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor).toList();
+        }
+    }
 
     public Book fromBookDtoToBook(BookDto bookDto) {
         if (bookDto == null) {
@@ -128,6 +299,19 @@ public class BookMapper {
         if (bookDto.authors() != null && !bookDto.authors().isEmpty()) {
             book.setAuthors(bookDto.authors().stream().map(AuthorMapper.getInstance()::fromAuthorDtoToAuthor).toList());
         }
+        book.setVersion(bookDto.version());
         return book;
     }
+
+    public BookEntity fromBookDtoToBookEntity(BookDto bookDto, PublisherEntity publisherEntity, List<AuthorEntity> authorEntities) {
+        if (bookDto == null) {
+            return null;
+        }
+        Book book = fromBookDtoToBook(bookDto);
+        book.setPublisher(PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity));
+        book.setAuthors(authorEntities.stream()
+                .map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor)
+                .toList());
+        return fromBookToBookEntity(book);
+    }
 }
@@ -0,0 +1,91 @@
+package es.cesguiro.domain.mapper;
+
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.PublisherDto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Mapa de identidad de una petición: cada autor y editorial repetidos se mapean una sola vez.
+// No es seguro entre hilos; se crea uno por página o por recorrido
+public final class MappingContext {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final int maxEntries;
+    // Por id: comparar la entidad completa como clave costaría más que volver a mapearla
+    private final Map<Long, Entry<PublisherEntity, PublisherDto>> publishers = new HashMap<>();
+    private final Map<Long, Entry<AuthorEntity, AuthorDto>> authors = new HashMap<>();
+    private final Map<Long, Entry<AuthorEntity, AuthorDto>> authorSummaries = new HashMap<>();
+
+    public MappingContext() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public MappingContext(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Max entries cannot be negative");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    PublisherDto publisher(PublisherEntity publisherEntity) {
+        if (publisherEntity == null || publisherEntity.id() == null) {
+            return PublisherMapper.getInstance().fromPublisherEntityToPublisherDto(publisherEntity);
+        }
+        Entry<PublisherEntity, PublisherDto> entry = publishers.get(publisherEntity.id());
+        if (entry != null && entry.matches(publisherEntity)) {
+            return entry.dto();
+        }
+        PublisherDto publisherDto = PublisherMapper.getInstance().fromPublisherEntityToPublisherDto(publisherEntity);
+        // Al llegar al límite se sigue mapeando, pero sin guardar más entradas
+        if (entry == null && size() < maxEntries) {
+            publishers.put(publisherEntity.id(), new Entry<>(publisherEntity, publisherDto));
+        }
+        return publisherDto;
+    }
+
+    AuthorDto author(AuthorEntity authorEntity) {
+        if (authorEntity == null || authorEntity.id() == null) {
+            return AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(authorEntity);
+        }
+        Entry<AuthorEntity, AuthorDto> entry = authors.get(authorEntity.id());
+        if (entry != null && entry.matches(authorEntity)) {
+            return entry.dto();
+        }
+        AuthorDto authorDto = AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(authorEntity);
+        if (entry == null && size() < maxEntries) {
+            authors.put(authorEntity.id(), new Entry<>(authorEntity, authorDto));
+        }
+        return authorDto;
+    }
+
+    AuthorDto authorSummary(AuthorEntity authorEntity) {
+        if (authorEntity == null || authorEntity.id() == null) {
+            return AuthorMapper.getInstance().fromAuthorEntityToAuthorSummaryDto(authorEntity);
+        }
+        Entry<AuthorEntity, AuthorDto> entry = authorSummaries.get(authorEntity.id());
+        if (entry != null && entry.matches(authorEntity)) {
+            return entry.dto();
+        }
+        AuthorDto authorDto = AuthorMapper.getInstance().fromAuthorEntityToAuthorSummaryDto(authorEntity);
+        if (entry == null && size() < maxEntries) {
+            authorSummaries.put(authorEntity.id(), new Entry<>(authorEntity, authorDto));
+        }
+        return authorDto;
+    }
+
+    public int size() {
+        return publishers.size() + authors.size() + authorSummaries.size();
+    }
+
+    private record Entry<E, D>(E entity, D dto) {
+
+        // Normalmente es la misma instancia; si no, se comprueba que no haya cambiado
+        boolean matches(E other) {
+            return entity == other || entity.equals(other);
+        }
+    }
+}
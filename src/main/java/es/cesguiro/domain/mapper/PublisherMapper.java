@@ -7,15 +7,12 @@ import es.cesguiro.domain.service.dto.PublisherDto;
 
 public class PublisherMapper {
 
-    private static PublisherMapper INSTANCE;
+    private static final PublisherMapper INSTANCE = new PublisherMapper();
 
     private PublisherMapper() {
     }
 
     public static PublisherMapper getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new PublisherMapper();
-        }
         return INSTANCE;
     }
 
@@ -52,6 +49,17 @@ public class PublisherMapper {
         );
     }
 
+    public PublisherDto fromPublisherEntityToPublisherDto(PublisherEntity publisherEntity) {
+        if (publisherEntity == null) {
+            return null;
+        }
+        return new PublisherDto(
+                publisherEntity.id(),
+                publisherEntity.name(),
+                publisherEntity.slug()
+        );
+    }
+
     public Publisher fromPublisherDtoToPublisher(PublisherDto publisherDto) {
         if (publisherDto == null) {
             return null;
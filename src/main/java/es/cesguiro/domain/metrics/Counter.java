@@ -0,0 +1,10 @@
+package es.cesguiro.domain.metrics;
+
+public interface Counter {
+
+    void add(long amount);
+
+    default void increment() {
+        add(1);
+    }
+}
@@ -0,0 +1,83 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Implementación en memoria pensada para dejarla activa en producción: registrar es lock-free y no reserva memoria
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, HistogramTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, AdderCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> new HistogramTimer());
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new AdderCounter());
+    }
+
+    // Registrar otra vez el mismo nombre sustituye la función anterior
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.TimerSnapshot> timerSnapshots = new TreeMap<>();
+        timers.forEach((name, timer) -> timerSnapshots.put(name, timer.snapshot()));
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.adder.sum()));
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+        return new MetricsSnapshot(timerSnapshots, counterValues, gaugeValues);
+    }
+
+    private static final class HistogramTimer implements Timer {
+
+        private final LogHistogram histogram = new LogHistogram();
+        private final LongAdder failures = new LongAdder();
+
+        @Override
+        public void record(long durationNanos) {
+            histogram.record(durationNanos);
+        }
+
+        @Override
+        public void recordFailure(long durationNanos) {
+            histogram.record(durationNanos);
+            failures.increment();
+        }
+
+        MetricsSnapshot.TimerSnapshot snapshot() {
+            long[] percentiles = histogram.percentiles(0.5, 0.9, 0.99, 0.999);
+            return new MetricsSnapshot.TimerSnapshot(
+                    histogram.count(),
+                    failures.sum(),
+                    histogram.total(),
+                    histogram.max(),
+                    percentiles[0],
+                    percentiles[1],
+                    percentiles[2],
+                    percentiles[3]
+            );
+        }
+    }
+
+    private static final class AdderCounter implements Counter {
+
+        private final LongAdder adder = new LongAdder();
+
+        @Override
+        public void add(long amount) {
+            adder.add(amount);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Histograma de nanosegundos al estilo HDR: cubos exponenciales divididos en 2^SUB_BUCKET_BITS sub-cubos lineales,
+// así el error relativo de cualquier percentil es como mucho 1/32 (~3 %) con tamaño fijo y sin reservar memoria al registrar.
+// Los valores por encima de MAX_NANOS (~18 minutos) se acumulan en el último cubo
+final class LogHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final long MAX_NANOS = (1L << MAX_EXPONENT) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_NANOS));
+        buckets.getAndIncrement(index(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long total() {
+        return total.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    // Percentiles sobre una copia de los cubos; devuelve el punto medio del cubo, acotado por el máximo registrado
+    long[] percentiles(double... quantiles) {
+        long[] counts = new long[buckets.length()];
+        long recorded = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long[] values = new long[quantiles.length];
+        if (recorded == 0) {
+            return values;
+        }
+        long maxValue = max();
+        for (int q = 0; q < quantiles.length; q++) {
+            long rank = Math.max(1, (long) Math.ceil(quantiles[q] * recorded));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    values[q] = Math.min(midpoint(i), maxValue);
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long midpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowest = (1L << exponent) + (index % SUB_BUCKETS) * width;
+        return lowest + width / 2;
+    }
+}
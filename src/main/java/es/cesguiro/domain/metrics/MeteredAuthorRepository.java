@@ -0,0 +1,55 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.repository.AuthorRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Mide cada método del repositorio con un timer "author.repository.<método>"
+public class MeteredAuthorRepository implements AuthorRepository {
+
+    private static final String PREFIX = "author.repository.";
+
+    private final AuthorRepository authorRepository;
+    private final Timer save;
+    private final Timer findById;
+    private final Timer findAllByIds;
+    private final Timer findBySlug;
+    private final Timer existsBySlug;
+
+    public MeteredAuthorRepository(AuthorRepository authorRepository, MetricsRegistry metricsRegistry) {
+        this.authorRepository = authorRepository;
+        this.save = metricsRegistry.timer(PREFIX + "save");
+        this.findById = metricsRegistry.timer(PREFIX + "findById");
+        this.findAllByIds = metricsRegistry.timer(PREFIX + "findAllByIds");
+        this.findBySlug = metricsRegistry.timer(PREFIX + "findBySlug");
+        this.existsBySlug = metricsRegistry.timer(PREFIX + "existsBySlug");
+    }
+
+    @Override
+    public AuthorEntity save(AuthorEntity authorEntity) {
+        return save.time(() -> authorRepository.save(authorEntity));
+    }
+
+    @Override
+    public Optional<AuthorEntity> findById(Long id) {
+        return findById.time(() -> authorRepository.findById(id));
+    }
+
+    @Override
+    public List<AuthorEntity> findAllByIds(Collection<Long> ids) {
+        return findAllByIds.time(() -> authorRepository.findAllByIds(ids));
+    }
+
+    @Override
+    public Optional<AuthorEntity> findBySlug(String slug) {
+        return findBySlug.time(() -> authorRepository.findBySlug(slug));
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+        return existsBySlug.time(() -> authorRepository.existsBySlug(slug));
+    }
+}
@@ -0,0 +1,53 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.service.AuthorService;
+import es.cesguiro.domain.service.dto.AuthorDto;
+
+import java.util.List;
+
+// Mide cada método del servicio con un timer "author.service.<método>"
+public class MeteredAuthorService implements AuthorService {
+
+    private static final String PREFIX = "author.service.";
+
+    private final AuthorService authorService;
+    private final Timer getAll;
+    private final Timer getBySlug;
+    private final Timer create;
+    private final Timer update;
+    private final Timer delete;
+
+    public MeteredAuthorService(AuthorService authorService, MetricsRegistry metricsRegistry) {
+        this.authorService = authorService;
+        this.getAll = metricsRegistry.timer(PREFIX + "getAll");
+        this.getBySlug = metricsRegistry.timer(PREFIX + "getBySlug");
+        this.create = metricsRegistry.timer(PREFIX + "create");
+        this.update = metricsRegistry.timer(PREFIX + "update");
+        this.delete = metricsRegistry.timer(PREFIX + "delete");
+    }
+
+    @Override
+    public List<AuthorDto> getAll() {
+        return getAll.time(authorService::getAll);
+    }
+
+    @Override
+    public AuthorDto getBySlug(String slug) {
+        return getBySlug.time(() -> authorService.getBySlug(slug));
+    }
+
+    @Override
+    public AuthorDto create(AuthorDto authorDto) {
+        return create.time(() -> authorService.create(authorDto));
+    }
+
+    @Override
+    public AuthorDto update(AuthorDto authorDto) {
+        return update.time(() -> authorService.update(authorDto));
+    }
+
+    @Override
+    public int delete(String slug) {
+        return delete.time(() -> authorService.delete(slug));
+    }
+}
@@ -0,0 +1,138 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Mide cada método del repositorio con un timer "book.repository.<método>"
+public class MeteredBookRepository implements BookRepository {
+
+    private static final String PREFIX = "book.repository.";
+
+    private final BookRepository bookRepository;
+    private final Timer findAll;
+    private final Timer findAllSummaries;
+    private final Timer findFinalPrices;
+    private final Timer findAllByQuery;
+    private final Timer countFacets;
+    private final Timer findAfter;
+    private final Timer streamAll;
+    private final Timer findByIsbn;
+    private final Timer existsByIsbn;
+    private final Timer existsById;
+    private final Timer findAllByIsbns;
+    private final Timer save;
+    private final Timer saveAll;
+    private final Timer findById;
+    private final Timer deleteByIsbn;
+
+    public MeteredBookRepository(BookRepository bookRepository, MetricsRegistry metricsRegistry) {
+        this.bookRepository = bookRepository;
+        this.findAll = metricsRegistry.timer(PREFIX + "findAll");
+        this.findAllSummaries = metricsRegistry.timer(PREFIX + "findAllSummaries");
+        this.findFinalPrices = metricsRegistry.timer(PREFIX + "findFinalPrices");
+        this.findAllByQuery = metricsRegistry.timer(PREFIX + "findAllByQuery");
+        this.countFacets = metricsRegistry.timer(PREFIX + "countFacets");
+        this.findAfter = metricsRegistry.timer(PREFIX + "findAfter");
+        this.streamAll = metricsRegistry.timer(PREFIX + "streamAll");
+        this.findByIsbn = metricsRegistry.timer(PREFIX + "findByIsbn");
+        this.existsByIsbn = metricsRegistry.timer(PREFIX + "existsByIsbn");
+        this.existsById = metricsRegistry.timer(PREFIX + "existsById");
+        this.findAllByIsbns = metricsRegistry.timer(PREFIX + "findAllByIsbns");
+        this.save = metricsRegistry.timer(PREFIX + "save");
+        this.saveAll = metricsRegistry.timer(PREFIX + "saveAll");
+        this.findById = metricsRegistry.timer(PREFIX + "findById");
+        this.deleteByIsbn = metricsRegistry.timer(PREFIX + "deleteByIsbn");
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size) {
+        return findAll.time(() -> bookRepository.findAll(page, size));
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size, boolean countTotal) {
+        return findAll.time(() -> bookRepository.findAll(page, size, countTotal));
+    }
+
+    @Override
+    public Page<BookSummaryEntity> findAllSummaries(int page, int size) {
+        return findAllSummaries.time(() -> bookRepository.findAllSummaries(page, size));
+    }
+
+    @Override
+    public List<BigDecimal> findFinalPrices(List<BookEntity> bookEntities) {
+        return findFinalPrices.time(() -> bookRepository.findFinalPrices(bookEntities));
+    }
+
+    @Override
+    public Page<BookEntity> findAll(BookQuery query, int page, int size) {
+        return findAllByQuery.time(() -> bookRepository.findAll(query, page, size));
+    }
+
+    @Override
+    public BookFacets countFacets(BookQuery query) {
+        return countFacets.time(() -> bookRepository.countFacets(query));
+    }
+
+    @Override
+    public CursorPage<BookEntity> findAfter(String cursor, int size) {
+        return findAfter.time(() -> bookRepository.findAfter(cursor, size));
+    }
+
+    // Solo se mide la apertura: el Stream se consume fuera
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return streamAll.timeStream(bookRepository::streamAll);
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        return findByIsbn.time(() -> bookRepository.findByIsbn(isbn));
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        return existsByIsbn.time(() -> bookRepository.existsByIsbn(isbn));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return existsById.time(() -> bookRepository.existsById(id));
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbns(Collection<String> isbns) {
+        return findAllByIsbns.time(() -> bookRepository.findAllByIsbns(isbns));
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        return save.time(() -> bookRepository.save(bookEntity));
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        return saveAll.time(() -> bookRepository.saveAll(bookEntities));
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        return findById.time(() -> bookRepository.findById(id));
+    }
+
+    @Override
+    public int deleteByIsbn(String isbn) {
+        return deleteByIsbn.time(() -> bookRepository.deleteByIsbn(isbn));
+    }
+}
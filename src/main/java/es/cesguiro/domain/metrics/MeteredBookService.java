@@ -0,0 +1,135 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.FacetedPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Mide cada método del servicio con un timer "book.service.<método>"
+public class MeteredBookService implements BookService {
+
+    private static final String PREFIX = "book.service.";
+
+    private final BookService bookService;
+    private final Timer getAll;
+    private final Timer getSummaries;
+    private final Timer getAllByQuery;
+    private final Timer getAllWithFacets;
+    private final Timer getAfter;
+    private final Timer streamAll;
+    private final Timer search;
+    private final Timer getByIsbn;
+    private final Timer findByIsbn;
+    private final Timer create;
+    private final Timer update;
+    private final Timer deleteByIsbn;
+    private final Timer createAll;
+    private final Timer upsertAll;
+
+    public MeteredBookService(BookService bookService, MetricsRegistry metricsRegistry) {
+        this.bookService = bookService;
+        this.getAll = metricsRegistry.timer(PREFIX + "getAll");
+        this.getSummaries = metricsRegistry.timer(PREFIX + "getSummaries");
+        this.getAllByQuery = metricsRegistry.timer(PREFIX + "getAllByQuery");
+        this.getAllWithFacets = metricsRegistry.timer(PREFIX + "getAllWithFacets");
+        this.getAfter = metricsRegistry.timer(PREFIX + "getAfter");
+        this.streamAll = metricsRegistry.timer(PREFIX + "streamAll");
+        this.search = metricsRegistry.timer(PREFIX + "search");
+        this.getByIsbn = metricsRegistry.timer(PREFIX + "getByIsbn");
+        this.findByIsbn = metricsRegistry.timer(PREFIX + "findByIsbn");
+        this.create = metricsRegistry.timer(PREFIX + "create");
+        this.update = metricsRegistry.timer(PREFIX + "update");
+        this.deleteByIsbn = metricsRegistry.timer(PREFIX + "deleteByIsbn");
+        this.createAll = metricsRegistry.timer(PREFIX + "createAll");
+        this.upsertAll = metricsRegistry.timer(PREFIX + "upsertAll");
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size) {
+        return getAll.time(() -> bookService.getAll(page, size));
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size, boolean countTotal) {
+        return getAll.time(() -> bookService.getAll(page, size, countTotal));
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size, BookProjection projection) {
+        return getAll.time(() -> bookService.getAll(page, size, projection));
+    }
+
+    @Override
+    public Page<BookSummaryDto> getSummaries(int page, int size) {
+        return getSummaries.time(() -> bookService.getSummaries(page, size));
+    }
+
+    @Override
+    public Page<BookDto> getAll(BookQuery query, int page, int size) {
+        return getAllByQuery.time(() -> bookService.getAll(query, page, size));
+    }
+
+    @Override
+    public FacetedPage<BookDto> getAllWithFacets(BookQuery query, int page, int size) {
+        return getAllWithFacets.time(() -> bookService.getAllWithFacets(query, page, size));
+    }
+
+    @Override
+    public CursorPage<BookDto> getAfter(String cursor, int size) {
+        return getAfter.time(() -> bookService.getAfter(cursor, size));
+    }
+
+    // Solo se mide la apertura: el Stream se consume fuera
+    @Override
+    public Stream<BookDto> streamAll() {
+        return streamAll.timeStream(bookService::streamAll);
+    }
+
+    @Override
+    public Page<BookDto> search(String query, int page, int size) {
+        return search.time(() -> bookService.search(query, page, size));
+    }
+
+    @Override
+    public BookDto getByIsbn(String isbn) {
+        return getByIsbn.time(() -> bookService.getByIsbn(isbn));
+    }
+
+    @Override
+    public Optional<BookDto> findByIsbn(String isbn) {
+        return findByIsbn.time(() -> bookService.findByIsbn(isbn));
+    }
+
+    @Override
+    public BookDto create(BookDto bookDto) {
+        return create.time(() -> bookService.create(bookDto));
+    }
+
+    @Override
+    public BookDto update(BookDto bookDto) {
+        return update.time(() -> bookService.update(bookDto));
+    }
+
+    @Override
+    public void deleteByIsbn(String isbn) {
+        deleteByIsbn.time(() -> bookService.deleteByIsbn(isbn));
+    }
+
+    @Override
+    public BookImportReport createAll(Stream<BookDto> bookDtos) {
+        return createAll.time(() -> bookService.createAll(bookDtos));
+    }
+
+    @Override
+    public BookImportReport upsertAll(Stream<BookDto> bookDtos) {
+        return upsertAll.time(() -> bookService.upsertAll(bookDtos));
+    }
+}
@@ -0,0 +1,55 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.repository.PublisherRepository;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Mide cada método del repositorio con un timer "publisher.repository.<método>"
+public class MeteredPublisherRepository implements PublisherRepository {
+
+    private static final String PREFIX = "publisher.repository.";
+
+    private final PublisherRepository publisherRepository;
+    private final Timer findById;
+    private final Timer findAllByIds;
+    private final Timer findBySlug;
+    private final Timer existsById;
+    private final Timer save;
+
+    public MeteredPublisherRepository(PublisherRepository publisherRepository, MetricsRegistry metricsRegistry) {
+        this.publisherRepository = publisherRepository;
+        this.findById = metricsRegistry.timer(PREFIX + "findById");
+        this.findAllByIds = metricsRegistry.timer(PREFIX + "findAllByIds");
+        this.findBySlug = metricsRegistry.timer(PREFIX + "findBySlug");
+        this.existsById = metricsRegistry.timer(PREFIX + "existsById");
+        this.save = metricsRegistry.timer(PREFIX + "save");
+    }
+
+    @Override
+    public Optional<PublisherEntity> findById(Long id) {
+        return findById.time(() -> publisherRepository.findById(id));
+    }
+
+    @Override
+    public List<PublisherEntity> findAllByIds(Collection<Long> ids) {
+        return findAllByIds.time(() -> publisherRepository.findAllByIds(ids));
+    }
+
+    @Override
+    public Optional<PublisherEntity> findBySlug(String slug) {
+        return findBySlug.time(() -> publisherRepository.findBySlug(slug));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return existsById.time(() -> publisherRepository.existsById(id));
+    }
+
+    @Override
+    public PublisherEntity save(PublisherEntity publisherEntity) {
+        return save.time(() -> publisherRepository.save(publisherEntity));
+    }
+}
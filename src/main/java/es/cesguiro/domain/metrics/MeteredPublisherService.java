@@ -0,0 +1,53 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.service.PublisherService;
+import es.cesguiro.domain.service.dto.PublisherDto;
+
+import java.util.List;
+
+// Mide cada método del servicio con un timer "publisher.service.<método>"
+public class MeteredPublisherService implements PublisherService {
+
+    private static final String PREFIX = "publisher.service.";
+
+    private final PublisherService publisherService;
+    private final Timer getAll;
+    private final Timer getBySlug;
+    private final Timer create;
+    private final Timer update;
+    private final Timer delete;
+
+    public MeteredPublisherService(PublisherService publisherService, MetricsRegistry metricsRegistry) {
+        this.publisherService = publisherService;
+        this.getAll = metricsRegistry.timer(PREFIX + "getAll");
+        this.getBySlug = metricsRegistry.timer(PREFIX + "getBySlug");
+        this.create = metricsRegistry.timer(PREFIX + "create");
+        this.update = metricsRegistry.timer(PREFIX + "update");
+        this.delete = metricsRegistry.timer(PREFIX + "delete");
+    }
+
+    @Override
+    public List<PublisherDto> getAll() {
+        return getAll.time(publisherService::getAll);
+    }
+
+    @Override
+    public PublisherDto getBySlug(String slug) {
+        return getBySlug.time(() -> publisherService.getBySlug(slug));
+    }
+
+    @Override
+    public PublisherDto create(PublisherDto publisherDto) {
+        return create.time(() -> publisherService.create(publisherDto));
+    }
+
+    @Override
+    public PublisherDto update(PublisherDto publisherDto) {
+        return update.time(() -> publisherService.update(publisherDto));
+    }
+
+    @Override
+    public PublisherDto delete(String slug) {
+        return delete.time(() -> publisherService.delete(slug));
+    }
+}
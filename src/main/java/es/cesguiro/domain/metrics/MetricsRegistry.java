@@ -0,0 +1,21 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.function.LongSupplier;
+
+// SPI de métricas: cada implementación decide dónde acumular (en memoria, Micrometer, ...).
+// Los decoradores piden sus timers y contadores una sola vez al construirse, nunca en cada llamada
+public interface MetricsRegistry {
+
+    Timer timer(String name);
+
+    Counter counter(String name);
+
+    // El valor se lee al tomar el snapshot (profundidad de una cola, tamaño de una caché...)
+    void gauge(String name, LongSupplier value);
+
+    MetricsSnapshot snapshot();
+
+    static MetricsRegistry noop() {
+        return NoopMetricsRegistry.INSTANCE;
+    }
+}
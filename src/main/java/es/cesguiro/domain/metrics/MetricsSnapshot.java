@@ -0,0 +1,35 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Copia de los valores en un instante, ordenada por nombre, para exportarla (JSON, logs, Prometheus...)
+public record MetricsSnapshot(
+        Map<String, TimerSnapshot> timers,
+        Map<String, Long> counters,
+        Map<String, Long> gauges
+) {
+
+    public MetricsSnapshot {
+        timers = Collections.unmodifiableSortedMap(new TreeMap<>(timers));
+        counters = Collections.unmodifiableSortedMap(new TreeMap<>(counters));
+        gauges = Collections.unmodifiableSortedMap(new TreeMap<>(gauges));
+    }
+
+    public record TimerSnapshot(
+            long count,
+            long failureCount,
+            long totalNanos,
+            long maxNanos,
+            long p50Nanos,
+            long p90Nanos,
+            long p99Nanos,
+            long p999Nanos
+    ) {
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Registro por defecto: sin coste salvo la llamada, que el JIT elimina al ser monomórfica
+final class NoopMetricsRegistry implements MetricsRegistry {
+
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private static final MetricsSnapshot EMPTY = new MetricsSnapshot(Map.of(), Map.of(), Map.of());
+
+    private static final Timer TIMER = new Timer() {
+
+        @Override
+        public void record(long durationNanos) {
+        }
+
+        @Override
+        public void recordFailure(long durationNanos) {
+        }
+
+        @Override
+        public <T> T time(Supplier<T> call) {
+            return call.get();
+        }
+    };
+
+    private static final Counter COUNTER = amount -> {
+    };
+
+    private NoopMetricsRegistry() {
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return TIMER;
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return COUNTER;
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        return EMPTY;
+    }
+}
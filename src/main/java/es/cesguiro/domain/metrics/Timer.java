@@ -0,0 +1,45 @@
+package es.cesguiro.domain.metrics;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public interface Timer {
+
+    void record(long durationNanos);
+
+    // Las llamadas que terminan con excepción también se miden, y además se cuentan como fallos
+    void recordFailure(long durationNanos);
+
+    default <T> T time(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    // Un Stream perezoso se mide desde que se crea hasta que se cierra: sin cerrarlo no se registra la muestra
+    default <T> Stream<T> timeStream(Supplier<Stream<T>> call) {
+        long start = System.nanoTime();
+        Stream<T> stream;
+        try {
+            stream = call.get();
+        } catch (RuntimeException | Error e) {
+            recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+        return stream.onClose(() -> record(System.nanoTime() - start));
+    }
+
+    default void time(Runnable call) {
+        time(() -> {
+            call.run();
+            return null;
+        });
+    }
+}
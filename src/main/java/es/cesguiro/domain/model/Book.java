@@ -4,7 +4,6 @@ import es.cesguiro.domain.exception.BusinessException;
 import es.cesguiro.domain.exception.ValidationException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +24,13 @@ public class Book {
     private final LocalDate publicationDate;
     private Publisher publisher;
     private List<Author> authors;
+    // Referencias perezosas: solo se usan hasta que se resuelven o se asignan
+    private Long publisherId;
+    private List<Long> authorIds;
+    private ReferenceResolver referenceResolver;
+    private boolean publisherLoaded = true;
+    private boolean authorsLoaded = true;
+    private Long version;
 
     public Book(
             Long id,
@@ -48,13 +54,37 @@ public class Book {
         this.synopsisEn = synopsisEn;
         this.basePrice = basePrice;
         this.discountPercentage = discountPercentage;
-        this.price = calculateFinalPrice();
+        this.price = PriceCalculator.getInstance().calculateFinalPrice(basePrice, discountPercentage);
         this.cover = cover;
         this.publicationDate = publicationDate;
         this.publisher = publisher;
         this.authors = (authors == null) ? new ArrayList<>() : new ArrayList<>(authors);
     }
 
+    // Editorial y autores se cargan con el resolver la primera vez que se piden
+    public Book(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            Double discountPercentage,
+            String cover,
+            LocalDate publicationDate,
+            Long publisherId,
+            List<Long> authorIds,
+            ReferenceResolver referenceResolver
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, null, null);
+        this.publisherId = publisherId;
+        this.authorIds = (authorIds == null) ? List.of() : List.copyOf(authorIds);
+        this.referenceResolver = referenceResolver;
+        this.publisherLoaded = publisherId == null;
+        this.authorsLoaded = this.authorIds.isEmpty();
+    }
+
     public Long getId() {
         return id;
     }
@@ -108,36 +138,69 @@ public class Book {
     }
 
 
-    public BigDecimal calculateFinalPrice() {
-        if( basePrice == null ) {
-            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
-        }
+    public Long getVersion() {
+        return version;
+    }
 
-        BigDecimal discount = basePrice
-                .multiply(BigDecimal.valueOf(discountPercentage))
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 
-        return basePrice.subtract(discount).setScale(2, RoundingMode.HALF_UP);
+    // El precio se calcula una sola vez en el constructor
+    public BigDecimal calculateFinalPrice() {
+        return price;
     }
 
     public Publisher getPublisher() {
+        if (!publisherLoaded) {
+            publisher = referenceResolver.publisher(publisherId);
+            publisherLoaded = true;
+        }
         return publisher;
     }
 
+    public Long getPublisherId() {
+        if (!publisherLoaded) {
+            return publisherId;
+        }
+        return publisher != null ? publisher.getId() : null;
+    }
+
+    public boolean isPublisherLoaded() {
+        return publisherLoaded;
+    }
+
     public void setPublisher(Publisher publisher) {
         this.publisher = publisher;
+        this.publisherLoaded = true;
     }
 
     public List<Author> getAuthors() {
+        if (!authorsLoaded) {
+            authors = new ArrayList<>(referenceResolver.authors(authorIds));
+            authorsLoaded = true;
+        }
         return authors;
     }
 
+    public List<Long> getAuthorIds() {
+        if (!authorsLoaded) {
+            return authorIds;
+        }
+        return authors == null ? List.of() : authors.stream().map(Author::getId).toList();
+    }
+
+    public boolean areAuthorsLoaded() {
+        return authorsLoaded;
+    }
+
     public void setAuthors(List<Author> authors) {
         this.authors = authors;
+        this.authorsLoaded = true;
     }
 
     public void addAuthor(Author author) {
-        if (this.authors.contains(author)) {
+        if (getAuthors().contains(author)) {
             throw  new BusinessException("Author already exists");
         }
         this.authors.add(author);
@@ -0,0 +1,40 @@
+package es.cesguiro.domain.model;
+
+import es.cesguiro.domain.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Cursor opaco para paginación por clave: codifica el id del último libro devuelto
+public final class BookCursor {
+
+    private static final String PREFIX = "id:";
+
+    private BookCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Un cursor nulo o vacío significa "desde el principio"
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BusinessException("Invalid cursor " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor " + cursor);
+        }
+    }
+}
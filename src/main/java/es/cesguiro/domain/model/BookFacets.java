@@ -0,0 +1,78 @@
+package es.cesguiro.domain.model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// Recuentos por faceta de los libros que cumplen una consulta. Cada lista va ordenada por número de libros (desc).
+// Editoriales y autores se identifican por slug; las décadas por su primer año ("1960")
+public record BookFacets(
+        List<FacetCount> publishers,
+        List<FacetCount> authors,
+        List<FacetCount> nationalities,
+        List<FacetCount> decades,
+        List<FacetCount> discountBands
+) {
+
+    private static final BookFacets EMPTY = new BookFacets(List.of(), List.of(), List.of(), List.of(), List.of());
+
+    private static final Comparator<FacetCount> BY_COUNT = Comparator.comparingLong(FacetCount::count)
+            .reversed()
+            .thenComparing(FacetCount::value);
+
+    public record FacetCount(String value, long count) {
+    }
+
+    // Tramos de descuento; sin descuento incluye el descuento nulo
+    public enum DiscountBand {
+        NONE, UP_TO_10, UP_TO_25, UP_TO_50, OVER_50;
+
+        public static DiscountBand of(Double discountPercentage) {
+            if (discountPercentage == null || discountPercentage <= 0) {
+                return NONE;
+            }
+            if (discountPercentage <= 10) {
+                return UP_TO_10;
+            }
+            if (discountPercentage <= 25) {
+                return UP_TO_25;
+            }
+            return discountPercentage <= 50 ? UP_TO_50 : OVER_50;
+        }
+    }
+
+    public BookFacets {
+        publishers = List.copyOf(publishers);
+        authors = List.copyOf(authors);
+        nationalities = List.copyOf(nationalities);
+        decades = List.copyOf(decades);
+        discountBands = List.copyOf(discountBands);
+    }
+
+    public static BookFacets empty() {
+        return EMPTY;
+    }
+
+    public static BookFacets of(
+            Map<String, Long> publishers,
+            Map<String, Long> authors,
+            Map<String, Long> nationalities,
+            Map<String, Long> decades,
+            Map<String, Long> discountBands
+    ) {
+        return new BookFacets(counts(publishers), counts(authors), counts(nationalities), counts(decades), counts(discountBands));
+    }
+
+    public static String decade(LocalDate publicationDate) {
+        return publicationDate == null ? null : String.valueOf(Math.floorDiv(publicationDate.getYear(), 10) * 10);
+    }
+
+    private static List<FacetCount> counts(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+                .sorted(BY_COUNT)
+                .toList();
+    }
+}
@@ -0,0 +1,142 @@
+package es.cesguiro.domain.model;
+
+import es.cesguiro.domain.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Especificación de consulta del catálogo: solo datos, para que cada repositorio la traduzca a sus índices
+// (o a SQL) en vez de filtrar en memoria. Todos los criterios nulos se ignoran y los presentes se combinan con AND.
+// Los rangos son inclusivos y el de precio se aplica sobre el precio final calculado con el descuento.
+// El orden siempre se desempata por id ascendente; los valores nulos van al final
+public record BookQuery(
+        Long publisherId,
+        String publisherSlug,
+        Long authorId,
+        String authorSlug,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        LocalDate publishedFrom,
+        LocalDate publishedTo,
+        List<Order> orders
+) {
+
+    private static final BookQuery ALL = builder().build();
+
+    public enum SortKey {
+        ID, TITLE_ES, TITLE_EN, PRICE, PUBLICATION_DATE
+    }
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    public record Order(SortKey key, Direction direction) {
+
+        public Order {
+            if (key == null || direction == null) {
+                throw new BusinessException("Sort key and direction are required");
+            }
+        }
+    }
+
+    public BookQuery {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BusinessException("Invalid price range " + minPrice + " - " + maxPrice);
+        }
+        if (publishedFrom != null && publishedTo != null && publishedFrom.isAfter(publishedTo)) {
+            throw new BusinessException("Invalid publication date range " + publishedFrom + " - " + publishedTo);
+        }
+        orders = orders == null ? List.of() : List.copyOf(orders);
+    }
+
+    public static BookQuery all() {
+        return ALL;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean hasFilters() {
+        return publisherId != null || publisherSlug != null || authorId != null || authorSlug != null
+                || hasPriceRange() || hasPublicationDateRange();
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean hasPublicationDateRange() {
+        return publishedFrom != null || publishedTo != null;
+    }
+
+    // Sin orden explícito, o solo por id ascendente: el orden natural de los repositorios
+    public boolean isOrderedById() {
+        return orders.isEmpty() || orders.equals(List.of(new Order(SortKey.ID, Direction.ASC)));
+    }
+
+    public static final class Builder {
+
+        private Long publisherId;
+        private String publisherSlug;
+        private Long authorId;
+        private String authorSlug;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private LocalDate publishedFrom;
+        private LocalDate publishedTo;
+        private final List<Order> orders = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder publisherId(Long publisherId) {
+            this.publisherId = publisherId;
+            return this;
+        }
+
+        public Builder publisherSlug(String publisherSlug) {
+            this.publisherSlug = publisherSlug;
+            return this;
+        }
+
+        public Builder authorId(Long authorId) {
+            this.authorId = authorId;
+            return this;
+        }
+
+        public Builder authorSlug(String authorSlug) {
+            this.authorSlug = authorSlug;
+            return this;
+        }
+
+        public Builder priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            return this;
+        }
+
+        public Builder publishedBetween(LocalDate publishedFrom, LocalDate publishedTo) {
+            this.publishedFrom = publishedFrom;
+            this.publishedTo = publishedTo;
+            return this;
+        }
+
+        public Builder publishedAfter(LocalDate date) {
+            this.publishedFrom = date.plusDays(1);
+            return this;
+        }
+
+        public Builder orderBy(SortKey key, Direction direction) {
+            orders.add(new Order(key, direction));
+            return this;
+        }
+
+        public BookQuery build() {
+            return new BookQuery(publisherId, publisherSlug, authorId, authorSlug, minPrice, maxPrice, publishedFrom, publishedTo, orders);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package es.cesguiro.domain.model;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> data,
+        int pageSize,
+        String nextCursor
+) {
+
+    public CursorPage {
+        validate(pageSize);
+        if (data.size() > pageSize) {
+            throw new RuntimeException("Data size cannot be greater than page size");
+        }
+    }
+
+    public static void validate(int pageSize) {
+        if (pageSize <= 0) {
+            throw new RuntimeException("Page size must be greater than zero");
+        }
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
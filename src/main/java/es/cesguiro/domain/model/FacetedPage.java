@@ -0,0 +1,7 @@
+package es.cesguiro.domain.model;
+
+public record FacetedPage<T>(
+        Page<T> page,
+        BookFacets facets
+) {
+}
@@ -20,6 +20,21 @@ public record Page<T>(
         );
     }
 
+    // Página sin total: evita el COUNT cuando el cliente no necesita el número de páginas
+    public static <T> Page<T> withoutTotal(List<T> data, int pageNumber, int pageSize) {
+        return new Page<>(
+                validateDataSize(data, pageSize),
+                validatePageNumber(pageNumber),
+                validatePageSize(pageSize),
+                -1,
+                -1
+        );
+    }
+
+    public boolean hasTotal() {
+        return totalElements >= 0;
+    }
+
     private static <T> List<T> validateDataSize(List<T> data, int pageSize) {
         if (data.size() > pageSize) {
             throw new RuntimeException("Data size cannot be greater than page size");
@@ -27,6 +42,12 @@ public record Page<T>(
         return data;
     }
 
+    // Para validar antes de hacer el trabajo de la consulta, con los mismos errores que el constructor
+    public static void validate(int pageNumber, int pageSize) {
+        validatePageNumber(pageNumber);
+        validatePageSize(pageSize);
+    }
+
     private static int validatePageNumber(int pageNumber) {
         if (pageNumber < 1) {
             throw new RuntimeException("Page number cannot be less than one");
@@ -0,0 +1,45 @@
+package es.cesguiro.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class PriceCalculator {
+
+    private static final PriceCalculator INSTANCE = new PriceCalculator();
+
+    private static final int SCALE = 2;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal ZERO_PRICE = BigDecimal.ZERO.setScale(SCALE, RoundingMode.HALF_UP);
+
+    private PriceCalculator() {
+    }
+
+    public static PriceCalculator getInstance() {
+        return INSTANCE;
+    }
+
+    // Precio final = base - descuento, con el descuento redondeado a 2 decimales. Descuento nulo = sin descuento
+    public BigDecimal calculateFinalPrice(BigDecimal basePrice, Double discountPercentage) {
+        if (basePrice == null) {
+            return ZERO_PRICE;
+        }
+        if (discountPercentage == null || discountPercentage == 0.0) {
+            return basePrice.setScale(SCALE, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal discount = basePrice
+                .multiply(toBigDecimal(discountPercentage))
+                .divide(ONE_HUNDRED, SCALE, RoundingMode.HALF_UP);
+
+        return basePrice.subtract(discount).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    // Los descuentos enteros evitan la conversión double -> String de BigDecimal.valueOf(double)
+    private static BigDecimal toBigDecimal(double discountPercentage) {
+        long wholeDiscount = (long) discountPercentage;
+        if (wholeDiscount == discountPercentage) {
+            return BigDecimal.valueOf(wholeDiscount);
+        }
+        return BigDecimal.valueOf(discountPercentage);
+    }
+}
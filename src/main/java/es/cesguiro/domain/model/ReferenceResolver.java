@@ -0,0 +1,12 @@
+package es.cesguiro.domain.model;
+
+import java.util.List;
+
+// Carga bajo demanda la editorial y los autores de un Book creado solo con sus ids.
+// Los autores se devuelven en el orden de los ids recibidos
+public interface ReferenceResolver {
+
+    Publisher publisher(Long publisherId);
+
+    List<Author> authors(List<Long> authorIds);
+}
@@ -2,10 +2,15 @@ package es.cesguiro.domain.repository;
 
 import es.cesguiro.domain.repository.entity.AuthorEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorRepository {
 
     AuthorEntity save(AuthorEntity authorEntity);
     Optional<AuthorEntity> findById(Long id);
+    List<AuthorEntity> findAllByIds(Collection<Long> ids);
+    Optional<AuthorEntity> findBySlug(String slug);
+    boolean existsBySlug(String slug);
 }
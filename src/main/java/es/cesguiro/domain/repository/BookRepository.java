@@ -1,16 +1,43 @@
 package es.cesguiro.domain.repository;
 
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
 import es.cesguiro.domain.model.Page;
 import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
 import es.cesguiro.domain.service.dto.BookDto;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository {
 
     Page<BookEntity> findAll(int page, int size);
+    Page<BookEntity> findAll(int page, int size, boolean countTotal);
+    // Misma página que findAll, pero solo con las columnas de un listado
+    Page<BookSummaryEntity> findAllSummaries(int page, int size);
+    // Precio final de cada libro, en el mismo orden y en una sola pasada: se reutiliza el que el repositorio ya tenga
+    // calculado mientras el libro no haya cambiado
+    List<BigDecimal> findFinalPrices(List<BookEntity> bookEntities);
+    // Las implementaciones deben resolver los filtros con sus índices (o en la consulta SQL), no en memoria
+    Page<BookEntity> findAll(BookQuery query, int page, int size);
+    // Recuentos por faceta de los libros que cumplen la consulta (se ignora el orden)
+    BookFacets countFacets(BookQuery query);
+    CursorPage<BookEntity> findAfter(String cursor, int size);
+    // El Stream debe cerrarse: la implementación puede mantener abierto un cursor de base de datos
+    Stream<BookEntity> streamAll();
     Optional<BookEntity> findByIsbn(String isbn);
+    // Comprobaciones de existencia: no cargan ni mapean la entidad
+    boolean existsByIsbn(String isbn);
+    boolean existsById(Long id);
+    List<BookEntity> findAllByIsbns(Collection<String> isbns);
     BookEntity save(BookEntity bookEntity);
+    List<BookEntity> saveAll(List<BookEntity> bookEntities);
     Optional<BookEntity> findById(Long id);
-    void deleteByIsbn(String isbn);
+    // Devuelve el número de libros borrados (0 si no existía)
+    int deleteByIsbn(String isbn);
 }
@@ -2,12 +2,15 @@ package es.cesguiro.domain.repository;
 
 import es.cesguiro.domain.repository.entity.PublisherEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PublisherRepository {
 
     Optional<PublisherEntity> findById(Long id);
+    List<PublisherEntity> findAllByIds(Collection<Long> ids);
     Optional<PublisherEntity> findBySlug(String slug);
+    boolean existsById(Long id);
     PublisherEntity save(PublisherEntity publisherEntity);
 }
@@ -16,6 +16,33 @@ public record BookEntity(
         String cover,
         LocalDate publicationDate,
         PublisherEntity publisher,
-        List<AuthorEntity> authors
+        List<AuthorEntity> authors,
+        // Versión para control optimista: save solo guarda si coincide con la almacenada; null = sin comprobación
+        Long version
 ) {
+
+    public BookEntity(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            Double discountPercentage,
+            String cover,
+            LocalDate publicationDate,
+            PublisherEntity publisher,
+            List<AuthorEntity> authors
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, publisher, authors, null);
+    }
+
+    public BookEntity withId(Long id) {
+        return new BookEntity(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, publisher, authors, version);
+    }
+
+    public BookEntity withVersion(Long version) {
+        return new BookEntity(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, publisher, authors, version);
+    }
 }
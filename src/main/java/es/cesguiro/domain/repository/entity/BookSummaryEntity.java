@@ -0,0 +1,17 @@
+package es.cesguiro.domain.repository.entity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Proyección de listado: sin sinopsis ni entidades anidadas. El precio ya es el final (con descuento)
+public record BookSummaryEntity(
+        Long id,
+        String isbn,
+        String titleEs,
+        String titleEn,
+        BigDecimal price,
+        String cover,
+        String publisherName,
+        List<String> authorNames
+) {
+}
@@ -0,0 +1,105 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.PriceCalculator;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+// Semántica común de BookQuery para los repositorios en memoria: los índices solo acotan los candidatos
+// y cada candidato se vuelve a comprobar con matches
+final class BookQueries {
+
+    private BookQueries() {
+    }
+
+    static BigDecimal finalPrice(BookEntity book) {
+        return PriceCalculator.getInstance().calculateFinalPrice(book.basePrice(), book.discountPercentage());
+    }
+
+    static boolean matches(BookQuery query, BookEntity book) {
+        return matchesIgnoringPrice(query, book)
+                && (!query.hasPriceRange() || inRange(finalPrice(book), query.minPrice(), query.maxPrice()));
+    }
+
+    static boolean matches(BookQuery query, Priced priced) {
+        return matchesIgnoringPrice(query, priced.book())
+                && (!query.hasPriceRange() || inRange(priced.finalPrice(), query.minPrice(), query.maxPrice()));
+    }
+
+    static Comparator<BookEntity> comparator(BookQuery query) {
+        return comparator(query, Function.identity(), BookQueries::finalPrice);
+    }
+
+    static Comparator<Priced> pricedComparator(BookQuery query) {
+        return comparator(query, Priced::book, Priced::finalPrice);
+    }
+
+    // Límites nulos = rango abierto por ese lado; un valor nulo nunca está en el rango
+    static <T extends Comparable<? super T>> boolean inRange(T value, T from, T to) {
+        return value != null
+                && (from == null || value.compareTo(from) >= 0)
+                && (to == null || value.compareTo(to) <= 0);
+    }
+
+    private static boolean matchesIgnoringPrice(BookQuery query, BookEntity book) {
+        if (query.publisherId() != null && (book.publisher() == null || !query.publisherId().equals(book.publisher().id()))) {
+            return false;
+        }
+        if (query.publisherSlug() != null && (book.publisher() == null || !query.publisherSlug().equals(book.publisher().slug()))) {
+            return false;
+        }
+        if (query.authorId() != null && !hasAuthor(book, AuthorEntity::id, query.authorId())) {
+            return false;
+        }
+        if (query.authorSlug() != null && !hasAuthor(book, AuthorEntity::slug, query.authorSlug())) {
+            return false;
+        }
+        return !query.hasPublicationDateRange() || inRange(book.publicationDate(), query.publishedFrom(), query.publishedTo());
+    }
+
+    private static <T> Comparator<T> comparator(BookQuery query, Function<T, BookEntity> book, Function<T, BigDecimal> finalPrice) {
+        Comparator<T> comparator = null;
+        for (BookQuery.Order order : query.orders()) {
+            Comparator<T> next = switch (order.key()) {
+                case ID -> by(book.andThen(BookEntity::id), order);
+                case TITLE_ES -> by(book.andThen(BookEntity::titleEs), order);
+                case TITLE_EN -> by(book.andThen(BookEntity::titleEn), order);
+                case PRICE -> by(finalPrice, order);
+                case PUBLICATION_DATE -> by(book.andThen(BookEntity::publicationDate), order);
+            };
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<T> byId = Comparator.comparing(book.andThen(BookEntity::id));
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private static <T, V extends Comparable<? super V>> Comparator<T> by(Function<T, V> key, BookQuery.Order order) {
+        Comparator<V> direction = order.direction() == BookQuery.Direction.ASC ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return Comparator.comparing(key, Comparator.nullsLast(direction));
+    }
+
+    private static <V> boolean hasAuthor(BookEntity book, Function<AuthorEntity, V> key, V value) {
+        if (book.authors() == null) {
+            return false;
+        }
+        for (AuthorEntity author : book.authors()) {
+            if (Objects.equals(key.apply(author), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Libro con su precio final ya calculado: el cálculo con BigDecimal es lo más caro al filtrar y ordenar por precio
+    record Priced(BookEntity book, BigDecimal finalPrice) {
+
+        static Priced of(BookEntity book) {
+            return new Priced(book, BookQueries.finalPrice(book));
+        }
+    }
+}
@@ -0,0 +1,764 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.model.BookCursor;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Copia de solo lectura del catálogo guardada por columnas: arrays primitivos para ids, ISBN, precios y fechas,
+// textos deduplicados y editoriales/autores compartidos por referencia. Cada BookEntity se construye al leerlo.
+// Las consultas con BookQuery se resuelven sobre las columnas: solo se materializan los libros de la página
+public class ColumnarBookCatalog implements BookRepository {
+
+    private static final long NO_ISBN = -1;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final long NULL_VERSION = Long.MIN_VALUE;
+
+    private final int size;
+    private final long[] ids;
+    private final long[] isbns;
+    private final String[] titlesEs;
+    private final String[] titlesEn;
+    private final String[] synopsesEs;
+    private final String[] synopsesEn;
+    private final long[] basePricesUnscaled;
+    private final byte[] basePricesScale;
+    private final double[] discountPercentages;
+    private final String[] covers;
+    private final int[] publicationEpochDays;
+    private final int[] publisherRefs;
+    private final PublisherEntity[] publishers;
+    // Autores de la fila i: authorRefs[authorOffsets[i] .. authorOffsets[i + 1])
+    private final int[] authorOffsets;
+    private final int[] authorRefs;
+    private final AuthorEntity[] authors;
+    // Precio final (base - descuento) en céntimos
+    private final long[] finalPriceCents;
+    private final long[] versions;
+
+    // Índices secundarios: filas de cada editorial y de cada autor (en orden de fila) y filas ordenadas por fecha y precio
+    private final Map<Long, Integer> publisherRefsById = new HashMap<>();
+    private final Map<String, Integer> publisherRefsBySlug = new HashMap<>();
+    private final Map<Long, Integer> authorRefsById = new HashMap<>();
+    private final Map<String, Integer> authorRefsBySlug = new HashMap<>();
+    private final int[] publisherRowOffsets;
+    private final int[] rowsByPublisher;
+    private final int[] authorRowOffsets;
+    private final int[] rowsByAuthor;
+    private final int[] rowsByPublicationDate;
+    private final int[] rowsByPrice;
+
+    // Facetas: nacionalidad de cada autor y década de cada fila como referencias a sus tablas de valores
+    private final String[] nationalities;
+    private final int[] authorNationalityRefs;
+    private final String[] decades;
+    private final int[] decadeRefs;
+    private final BookFacets allFacets;
+
+    // Índice ISBN -> fila con direccionamiento abierto sobre longs
+    private final long[] isbnKeys;
+    private final int[] isbnRows;
+    // ISBN que no son 13 dígitos
+    private final Map<String, Integer> rowsByIrregularIsbn = new HashMap<>();
+    private final Map<Integer, String> irregularIsbnsByRow = new HashMap<>();
+
+    public ColumnarBookCatalog(Collection<BookEntity> books) {
+        BookEntity[] sorted = books.toArray(new BookEntity[0]);
+        Arrays.sort(sorted, Comparator.comparing(BookEntity::id));
+        size = sorted.length;
+        ids = new long[size];
+        isbns = new long[size];
+        titlesEs = new String[size];
+        titlesEn = new String[size];
+        synopsesEs = new String[size];
+        synopsesEn = new String[size];
+        basePricesUnscaled = new long[size];
+        basePricesScale = new byte[size];
+        discountPercentages = new double[size];
+        covers = new String[size];
+        publicationEpochDays = new int[size];
+        publisherRefs = new int[size];
+        finalPriceCents = new long[size];
+        versions = new long[size];
+        authorOffsets = new int[size + 1];
+        isbnKeys = new long[tableCapacity(size)];
+        isbnRows = new int[isbnKeys.length];
+        Arrays.fill(isbnKeys, NO_ISBN);
+
+        Map<String, String> strings = new HashMap<>();
+        Map<Long, Integer> publisherIndex = publisherRefsById;
+        List<PublisherEntity> publisherPool = new ArrayList<>();
+        Map<Long, Integer> authorIndex = authorRefsById;
+        List<AuthorEntity> authorPool = new ArrayList<>();
+        int[] refs = new int[Math.max(size, 16)];
+        int refCount = 0;
+
+        for (int row = 0; row < size; row++) {
+            BookEntity book = sorted[row];
+            if (row > 0 && book.id() == ids[row - 1]) {
+                throw new IllegalArgumentException("Duplicated book id " + book.id());
+            }
+            ids[row] = book.id();
+            indexIsbn(row, book.isbn());
+            titlesEs[row] = dedupe(strings, book.titleEs());
+            titlesEn[row] = dedupe(strings, book.titleEn());
+            synopsesEs[row] = dedupe(strings, book.synopsisEs());
+            synopsesEn[row] = dedupe(strings, book.synopsisEn());
+            storeBasePrice(row, book.basePrice());
+            finalPriceCents[row] = BookQueries.finalPrice(book).movePointRight(2).longValueExact();
+            versions[row] = book.version() != null ? book.version() : NULL_VERSION;
+            discountPercentages[row] = book.discountPercentage() != null ? book.discountPercentage() : Double.NaN;
+            covers[row] = dedupe(strings, book.cover());
+            publicationEpochDays[row] = book.publicationDate() != null ? Math.toIntExact(book.publicationDate().toEpochDay()) : NULL_DATE;
+            publisherRefs[row] = book.publisher() != null
+                    ? publisherIndex.computeIfAbsent(book.publisher().id(), id -> add(publisherPool, book.publisher()))
+                    : -1;
+
+            List<AuthorEntity> bookAuthors = book.authors() != null ? book.authors() : List.of();
+            for (AuthorEntity author : bookAuthors) {
+                if (refCount == refs.length) {
+                    refs = Arrays.copyOf(refs, refs.length * 2);
+                }
+                refs[refCount++] = authorIndex.computeIfAbsent(author.id(), id -> add(authorPool, author));
+            }
+            authorOffsets[row + 1] = refCount;
+        }
+
+        authorRefs = Arrays.copyOf(refs, refCount);
+        publishers = publisherPool.toArray(new PublisherEntity[0]);
+        authors = authorPool.toArray(new AuthorEntity[0]);
+
+        for (int ref = 0; ref < publishers.length; ref++) {
+            publisherRefsBySlug.putIfAbsent(publishers[ref].slug(), ref);
+        }
+        for (int ref = 0; ref < authors.length; ref++) {
+            authorRefsBySlug.putIfAbsent(authors[ref].slug(), ref);
+        }
+        publisherRowOffsets = new int[publishers.length + 1];
+        rowsByPublisher = invert(publisherRefs, publisherRowOffsets, row -> row, row -> row + 1);
+        authorRowOffsets = new int[authors.length + 1];
+        rowsByAuthor = invert(authorRefs, authorRowOffsets, row -> authorOffsets[row], row -> authorOffsets[row + 1]);
+        rowsByPublicationDate = IntStream.range(0, size)
+                .filter(row -> publicationEpochDays[row] != NULL_DATE)
+                .boxed()
+                .sorted(Comparator.comparingInt(row -> publicationEpochDays[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        rowsByPrice = IntStream.range(0, size)
+                .boxed()
+                .sorted(Comparator.comparingLong(row -> finalPriceCents[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        Map<String, Integer> nationalityIndex = new HashMap<>();
+        List<String> nationalityPool = new ArrayList<>();
+        authorNationalityRefs = new int[authors.length];
+        for (int ref = 0; ref < authors.length; ref++) {
+            String nationality = authors[ref].nationality();
+            authorNationalityRefs[ref] = nationality == null ? -1 : nationalityIndex.computeIfAbsent(nationality, n -> add(nationalityPool, n));
+        }
+        nationalities = nationalityPool.toArray(new String[0]);
+        Map<String, Integer> decadeIndex = new HashMap<>();
+        List<String> decadePool = new ArrayList<>();
+        decadeRefs = new int[size];
+        for (int row = 0; row < size; row++) {
+            String decade = BookFacets.decade(sorted[row].publicationDate());
+            decadeRefs[row] = decade == null ? -1 : decadeIndex.computeIfAbsent(decade, d -> add(decadePool, d));
+        }
+        decades = decadePool.toArray(new String[0]);
+        allFacets = countFacets(IntStream.range(0, size).toArray());
+    }
+
+    public static ColumnarBookCatalog snapshot(BookRepository bookRepository) {
+        try (Stream<BookEntity> books = bookRepository.streamAll()) {
+            return new ColumnarBookCatalog(books.toList());
+        }
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size) {
+        return new Page<>(slice(page, size), page, size, this.size);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size, boolean countTotal) {
+        if (countTotal) {
+            return findAll(page, size);
+        }
+        return Page.withoutTotal(slice(page, size), page, size);
+    }
+
+    // Se lee directamente de las columnas: ni sinopsis ni entidades de autor o editorial
+    @Override
+    public Page<BookSummaryEntity> findAllSummaries(int page, int size) {
+        Page.validate(page, size);
+        int from = (int) Math.min((long) (page - 1) * size, this.size);
+        int to = (int) Math.min((long) from + size, this.size);
+        BookSummaryEntity[] summaries = new BookSummaryEntity[to - from];
+        for (int row = from; row < to; row++) {
+            summaries[row - from] = summary(row);
+        }
+        return new Page<>(List.of(summaries), page, size, this.size);
+    }
+
+    // Las entidades se construyen al leerlas: se reutiliza el precio de la fila si el libro tiene su mismo precio base y descuento
+    @Override
+    public List<BigDecimal> findFinalPrices(List<BookEntity> bookEntities) {
+        BigDecimal[] prices = new BigDecimal[bookEntities.size()];
+        for (int i = 0; i < prices.length; i++) {
+            BookEntity book = bookEntities.get(i);
+            int row = book.id() == null ? -1 : Arrays.binarySearch(ids, book.id());
+            prices[i] = row >= 0 && hasSamePricing(row, book) ? BigDecimal.valueOf(finalPriceCents[row], 2) : BookQueries.finalPrice(book);
+        }
+        return List.of(prices);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(BookQuery query, int page, int size) {
+        Page.validate(page, size);
+        if (!query.hasFilters() && query.isOrderedById()) {
+            return findAll(page, size);
+        }
+        int[] matched = sort(matchingRows(query), query);
+        int count = matched.length;
+
+        long from = Math.min((long) (page - 1) * size, count);
+        int to = (int) Math.min(from + size, count);
+        BookEntity[] books = new BookEntity[to - (int) from];
+        for (int i = (int) from; i < to; i++) {
+            books[i - (int) from] = row(matched[i]);
+        }
+        return new Page<>(List.of(books), page, size, count);
+    }
+
+    @Override
+    public CursorPage<BookEntity> findAfter(String cursor, int size) {
+        CursorPage.validate(size);
+        Long lastId = BookCursor.decode(cursor);
+        int from = 0;
+        if (lastId != null) {
+            int position = Arrays.binarySearch(ids, lastId);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = (int) Math.min((long) from + size, this.size);
+        List<BookEntity> data = rows(from, to);
+        String nextCursor = to < this.size && !data.isEmpty() ? BookCursor.encode(data.getLast().id()) : null;
+        return new CursorPage<>(data, size, nextCursor);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return IntStream.range(0, size).mapToObj(this::row);
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        int row = rowOfIsbn(isbn);
+        return row < 0 ? Optional.empty() : Optional.of(row(row));
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        return rowOfIsbn(isbn) >= 0;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbns(Collection<String> isbns) {
+        List<BookEntity> books = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            int row = rowOfIsbn(isbn);
+            if (row >= 0) {
+                books.add(row(row));
+            }
+        }
+        return books;
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        int row = Arrays.binarySearch(ids, id);
+        return row < 0 ? Optional.empty() : Optional.of(row(row));
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        throw new UnsupportedOperationException("Read-only catalog snapshot");
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        throw new UnsupportedOperationException("Read-only catalog snapshot");
+    }
+
+    @Override
+    public int deleteByIsbn(String isbn) {
+        throw new UnsupportedOperationException("Read-only catalog snapshot");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private BookEntity row(int row) {
+        int firstAuthor = authorOffsets[row];
+        AuthorEntity[] bookAuthors = new AuthorEntity[authorOffsets[row + 1] - firstAuthor];
+        for (int i = 0; i < bookAuthors.length; i++) {
+            bookAuthors[i] = authors[authorRefs[firstAuthor + i]];
+        }
+        return new BookEntity(
+                ids[row],
+                isbn(row),
+                titlesEs[row],
+                titlesEn[row],
+                synopsesEs[row],
+                synopsesEn[row],
+                basePricesScale[row] == NULL_SCALE ? null : BigDecimal.valueOf(basePricesUnscaled[row], basePricesScale[row]),
+                Double.isNaN(discountPercentages[row]) ? null : discountPercentages[row],
+                covers[row],
+                publicationEpochDays[row] == NULL_DATE ? null : LocalDate.ofEpochDay(publicationEpochDays[row]),
+                publisherRefs[row] < 0 ? null : publishers[publisherRefs[row]],
+                List.of(bookAuthors),
+                versions[row] == NULL_VERSION ? null : versions[row]
+        );
+    }
+
+    private BookSummaryEntity summary(int row) {
+        int firstAuthor = authorOffsets[row];
+        String[] authorNames = new String[authorOffsets[row + 1] - firstAuthor];
+        for (int i = 0; i < authorNames.length; i++) {
+            authorNames[i] = authors[authorRefs[firstAuthor + i]].name();
+        }
+        return new BookSummaryEntity(
+                ids[row],
+                isbn(row),
+                titlesEs[row],
+                titlesEn[row],
+                BigDecimal.valueOf(finalPriceCents[row], 2),
+                covers[row],
+                publisherRefs[row] < 0 ? null : publishers[publisherRefs[row]].name(),
+                List.of(authorNames)
+        );
+    }
+
+    @Override
+    public BookFacets countFacets(BookQuery query) {
+        return query.hasFilters() ? countFacets(matchingRows(query)) : allFacets;
+    }
+
+    // Filas que cumplen la consulta, sin ordenar
+    private int[] matchingRows(BookQuery query) {
+        RowFilter filter = new RowFilter(query);
+        if (filter.empty) {
+            return new int[0];
+        }
+        int[] candidates = candidateRows(query, filter);
+        int count = 0;
+        for (int row : candidates) {
+            if (filter.test(row)) {
+                candidates[count++] = row;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    // Recuento con contadores primitivos indexados por referencia: no se materializa ningún libro
+    private BookFacets countFacets(int[] rows) {
+        long[] publisherCounts = new long[publishers.length];
+        long[] authorCounts = new long[authors.length];
+        long[] nationalityCounts = new long[nationalities.length];
+        long[] decadeCounts = new long[decades.length];
+        long[] discountBandCounts = new long[BookFacets.DiscountBand.values().length];
+        for (int row : rows) {
+            if (publisherRefs[row] >= 0) {
+                publisherCounts[publisherRefs[row]]++;
+            }
+            for (int i = authorOffsets[row]; i < authorOffsets[row + 1]; i++) {
+                authorCounts[authorRefs[i]]++;
+                int nationalityRef = authorNationalityRefs[authorRefs[i]];
+                if (nationalityRef >= 0 && !seenNationality(row, i, nationalityRef)) {
+                    nationalityCounts[nationalityRef]++;
+                }
+            }
+            if (decadeRefs[row] >= 0) {
+                decadeCounts[decadeRefs[row]]++;
+            }
+            double discount = discountPercentages[row];
+            discountBandCounts[BookFacets.DiscountBand.of(Double.isNaN(discount) ? null : discount).ordinal()]++;
+        }
+        Map<String, Long> discountBands = new HashMap<>();
+        for (BookFacets.DiscountBand band : BookFacets.DiscountBand.values()) {
+            discountBands.put(band.name(), discountBandCounts[band.ordinal()]);
+        }
+        return BookFacets.of(
+                counts(publishers, PublisherEntity::slug, publisherCounts),
+                counts(authors, AuthorEntity::slug, authorCounts),
+                counts(nationalities, Function.identity(), nationalityCounts),
+                counts(decades, Function.identity(), decadeCounts),
+                discountBands
+        );
+    }
+
+    // Un libro cuenta una sola vez por nacionalidad aunque tenga varios autores de ella
+    private boolean seenNationality(int row, int authorIndex, int nationalityRef) {
+        for (int i = authorOffsets[row]; i < authorIndex; i++) {
+            if (authorNationalityRefs[authorRefs[i]] == nationalityRef) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <E> Map<String, Long> counts(E[] pool, Function<E, String> label, long[] counts) {
+        Map<String, Long> byLabel = new HashMap<>();
+        for (int ref = 0; ref < pool.length; ref++) {
+            if (counts[ref] > 0 && label.apply(pool[ref]) != null) {
+                byLabel.merge(label.apply(pool[ref]), counts[ref], Long::sum);
+            }
+        }
+        return byLabel;
+    }
+
+    // Parte del índice más selectivo: listas de editorial o autor, o el tramo de fechas o precios
+    private int[] candidateRows(BookQuery query, RowFilter filter) {
+        int[] best = null;
+        if (filter.publisherRef >= 0) {
+            best = Arrays.copyOfRange(rowsByPublisher, publisherRowOffsets[filter.publisherRef], publisherRowOffsets[filter.publisherRef + 1]);
+        }
+        for (int authorRef : filter.authorFilterRefs) {
+            if (authorRef >= 0 && (best == null || authorRowOffsets[authorRef + 1] - authorRowOffsets[authorRef] < best.length)) {
+                best = Arrays.copyOfRange(rowsByAuthor, authorRowOffsets[authorRef], authorRowOffsets[authorRef + 1]);
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        if (query.hasPublicationDateRange()) {
+            int first = lowerBound(rowsByPublicationDate, row -> publicationEpochDays[row], filter.fromEpochDay);
+            int last = lowerBound(rowsByPublicationDate, row -> publicationEpochDays[row], filter.toEpochDay + 1);
+            best = Arrays.copyOfRange(rowsByPublicationDate, first, last);
+        }
+        if (query.hasPriceRange()) {
+            int first = lowerBound(rowsByPrice, row -> finalPriceCents[row], filter.minCents);
+            int last = filter.maxCents == Long.MAX_VALUE ? rowsByPrice.length : lowerBound(rowsByPrice, row -> finalPriceCents[row], filter.maxCents + 1);
+            if (best == null || last - first < best.length) {
+                best = Arrays.copyOfRange(rowsByPrice, Math.min(first, last), last);
+            }
+        }
+        return best != null ? best : IntStream.range(0, size).toArray();
+    }
+
+    // Las filas están ordenadas por id, así que el orden por id es el orden de fila
+    private int[] sort(int[] rows, BookQuery query) {
+        if (query.isOrderedById()) {
+            Arrays.sort(rows);
+            return rows;
+        }
+        Comparator<Integer> comparator = null;
+        for (BookQuery.Order order : query.orders()) {
+            Comparator<Integer> next = switch (order.key()) {
+                case ID -> Comparator.comparingInt(row -> row);
+                case TITLE_ES -> Comparator.comparing(row -> titlesEs[row]);
+                case TITLE_EN -> Comparator.comparing(row -> titlesEn[row]);
+                case PRICE -> Comparator.comparingLong(row -> finalPriceCents[row]);
+                case PUBLICATION_DATE -> Comparator.comparingInt(row -> publicationEpochDays[row]);
+            };
+            if (order.direction() == BookQuery.Direction.DESC) {
+                next = next.reversed();
+            }
+            // Los nulos van al final en ambos sentidos
+            if (order.key() == BookQuery.SortKey.TITLE_ES) {
+                next = nullsLast(row -> titlesEs[row] == null, next);
+            } else if (order.key() == BookQuery.SortKey.TITLE_EN) {
+                next = nullsLast(row -> titlesEn[row] == null, next);
+            } else if (order.key() == BookQuery.SortKey.PUBLICATION_DATE) {
+                next = nullsLast(row -> publicationEpochDays[row] == NULL_DATE, next);
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Integer> byRow = Comparator.comparingInt(row -> row);
+        Comparator<Integer> rowComparator = comparator == null ? byRow : comparator.thenComparing(byRow);
+        return Arrays.stream(rows).boxed().sorted(rowComparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    private List<BookEntity> slice(int page, int size) {
+        Page.validate(page, size);
+        long from = Math.min((long) (page - 1) * size, this.size);
+        int to = (int) Math.min(from + size, this.size);
+        return rows((int) from, to);
+    }
+
+    private List<BookEntity> rows(int from, int to) {
+        BookEntity[] books = new BookEntity[to - from];
+        for (int row = from; row < to; row++) {
+            books[row - from] = row(row);
+        }
+        return List.of(books);
+    }
+
+    private String isbn(int row) {
+        long isbn = isbns[row];
+        if (isbn == NO_ISBN) {
+            return irregularIsbnsByRow.get(row);
+        }
+        char[] digits = new char[13];
+        for (int i = 12; i >= 0; i--) {
+            digits[i] = (char) ('0' + isbn % 10);
+            isbn /= 10;
+        }
+        return new String(digits);
+    }
+
+    private void indexIsbn(int row, String isbn) {
+        long key = isbnKey(isbn);
+        isbns[row] = key;
+        if (key == NO_ISBN) {
+            if (isbn != null && rowsByIrregularIsbn.putIfAbsent(isbn, row) != null) {
+                throw new IllegalArgumentException("Duplicated isbn " + isbn);
+            }
+            irregularIsbnsByRow.put(row, isbn);
+            return;
+        }
+        int slot = slot(key);
+        while (isbnKeys[slot] != NO_ISBN) {
+            if (isbnKeys[slot] == key) {
+                throw new IllegalArgumentException("Duplicated isbn " + isbn);
+            }
+            slot = (slot + 1) & (isbnKeys.length - 1);
+        }
+        isbnKeys[slot] = key;
+        isbnRows[slot] = row;
+    }
+
+    private int rowOfIsbn(String isbn) {
+        if (isbn == null) {
+            return -1;
+        }
+        long key = isbnKey(isbn);
+        if (key == NO_ISBN) {
+            return rowsByIrregularIsbn.getOrDefault(isbn, -1);
+        }
+        int slot = slot(key);
+        while (isbnKeys[slot] != NO_ISBN) {
+            if (isbnKeys[slot] == key) {
+                return isbnRows[slot];
+            }
+            slot = (slot + 1) & (isbnKeys.length - 1);
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (isbnKeys.length - 1);
+    }
+
+    private boolean hasSamePricing(int row, BookEntity book) {
+        BigDecimal basePrice = book.basePrice();
+        boolean sameBasePrice = basePrice == null
+                ? basePricesScale[row] == NULL_SCALE
+                : basePricesScale[row] == basePrice.scale() && basePrice.unscaledValue().bitLength() <= 63
+                        && basePricesUnscaled[row] == basePrice.unscaledValue().longValue();
+        Double discountPercentage = book.discountPercentage();
+        return sameBasePrice && (discountPercentage == null
+                ? Double.isNaN(discountPercentages[row])
+                : Double.compare(discountPercentages[row], discountPercentage) == 0);
+    }
+
+    private void storeBasePrice(int row, BigDecimal basePrice) {
+        if (basePrice == null) {
+            basePricesScale[row] = NULL_SCALE;
+            return;
+        }
+        if (basePrice.scale() <= NULL_SCALE || basePrice.scale() > Byte.MAX_VALUE || basePrice.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Base price " + basePrice + " cannot be stored in the catalog");
+        }
+        basePricesUnscaled[row] = basePrice.unscaledValue().longValue();
+        basePricesScale[row] = (byte) basePrice.scale();
+    }
+
+    // Filtro sobre columnas primitivas equivalente a BookQueries.matches
+    private final class RowFilter {
+
+        private final int publisherRef;
+        private final int[] authorFilterRefs;
+        private final int fromEpochDay;
+        private final int toEpochDay;
+        private final long minCents;
+        private final long maxCents;
+        private final boolean dateRange;
+        private final boolean empty;
+
+        RowFilter(BookQuery query) {
+            boolean noMatch = false;
+            int ref = -1;
+            if (query.publisherId() != null) {
+                ref = publisherRefsById.getOrDefault(query.publisherId(), -2);
+            }
+            if (query.publisherSlug() != null) {
+                int slugRef = publisherRefsBySlug.getOrDefault(query.publisherSlug(), -2);
+                noMatch = ref != -1 && ref != slugRef;
+                ref = slugRef;
+            }
+            publisherRef = ref;
+            authorFilterRefs = new int[]{
+                    query.authorId() == null ? -1 : authorRefsById.getOrDefault(query.authorId(), -2),
+                    query.authorSlug() == null ? -1 : authorRefsBySlug.getOrDefault(query.authorSlug(), -2)
+            };
+            dateRange = query.hasPublicationDateRange();
+            fromEpochDay = query.publishedFrom() == null ? NULL_DATE + 1 : clampToInt(query.publishedFrom().toEpochDay());
+            toEpochDay = query.publishedTo() == null ? Integer.MAX_VALUE - 1 : clampToInt(query.publishedTo().toEpochDay());
+            minCents = query.minPrice() == null ? Long.MIN_VALUE : toCents(query.minPrice(), RoundingMode.CEILING);
+            maxCents = query.maxPrice() == null ? Long.MAX_VALUE : toCents(query.maxPrice(), RoundingMode.FLOOR);
+            empty = noMatch || publisherRef == -2 || authorFilterRefs[0] == -2 || authorFilterRefs[1] == -2;
+        }
+
+        boolean test(int row) {
+            if (publisherRef >= 0 && publisherRefs[row] != publisherRef) {
+                return false;
+            }
+            for (int authorRef : authorFilterRefs) {
+                if (authorRef >= 0 && !hasAuthor(row, authorRef)) {
+                    return false;
+                }
+            }
+            int epochDay = publicationEpochDays[row];
+            if (dateRange && (epochDay == NULL_DATE || epochDay < fromEpochDay || epochDay > toEpochDay)) {
+                return false;
+            }
+            return finalPriceCents[row] >= minCents && finalPriceCents[row] <= maxCents;
+        }
+
+        private boolean hasAuthor(int row, int authorRef) {
+            for (int i = authorOffsets[row]; i < authorOffsets[row + 1]; i++) {
+                if (authorRefs[i] == authorRef) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Filas agrupadas por referencia (CSR inverso): rows[offsets[ref] .. offsets[ref + 1]) en orden de fila
+    private int[] invert(int[] refs, int[] offsets, IntUnaryOperator firstRef, IntUnaryOperator lastRef) {
+        for (int row = 0; row < size; row++) {
+            for (int i = firstRef.applyAsInt(row); i < lastRef.applyAsInt(row); i++) {
+                if (refs[i] >= 0) {
+                    offsets[refs[i] + 1]++;
+                }
+            }
+        }
+        for (int ref = 0; ref < offsets.length - 1; ref++) {
+            offsets[ref + 1] += offsets[ref];
+        }
+        int[] rows = new int[offsets[offsets.length - 1]];
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int row = 0; row < size; row++) {
+            for (int i = firstRef.applyAsInt(row); i < lastRef.applyAsInt(row); i++) {
+                if (refs[i] >= 0) {
+                    rows[next[refs[i]]++] = row;
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Primera posición de rows cuya clave es >= key
+    private static int lowerBound(int[] rows, IntToLongFunction keyOf, long key) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyOf.applyAsLong(rows[mid]) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Comparator<Integer> nullsLast(IntPredicate isNull, Comparator<Integer> comparator) {
+        return (a, b) -> {
+            boolean aNull = isNull.test(a);
+            boolean bNull = isNull.test(b);
+            if (aNull || bNull) {
+                return aNull == bNull ? 0 : aNull ? 1 : -1;
+            }
+            return comparator.compare(a, b);
+        };
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        BigDecimal cents = price.movePointRight(2).setScale(0, roundingMode);
+        if (cents.unscaledValue().bitLength() > 63) {
+            return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    private static int clampToInt(long epochDay) {
+        return (int) Math.max(NULL_DATE + 1, Math.min(Integer.MAX_VALUE - 1, epochDay));
+    }
+
+    // ISBN de 13 dígitos como número; NO_ISBN si no lo es
+    private static long isbnKey(String isbn) {
+        if (isbn == null || isbn.length() != 13) {
+            return NO_ISBN;
+        }
+        long key = 0;
+        for (int i = 0; i < 13; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') {
+                return NO_ISBN;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    private static int tableCapacity(int size) {
+        return Integer.highestOneBit(Math.max(size, 8) * 2 - 1) << 1;
+    }
+
+    private static String dedupe(Map<String, String> strings, String value) {
+        return value == null ? null : strings.computeIfAbsent(value, v -> v);
+    }
+
+    private static <E> int add(List<E> pool, E entity) {
+        pool.add(entity);
+        return pool.size() - 1;
+    }
+}
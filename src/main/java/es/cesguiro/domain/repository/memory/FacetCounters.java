@@ -0,0 +1,57 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Contadores por valor de faceta. InMemoryBookRepository los mantiene con cada escritura (bajo su cerrojo)
+// para responder sin recorrer el catálogo; también sirven para contar los candidatos de una consulta
+final class FacetCounters {
+
+    private final Map<String, Long> publishers = new ConcurrentHashMap<>();
+    private final Map<String, Long> authors = new ConcurrentHashMap<>();
+    private final Map<String, Long> nationalities = new ConcurrentHashMap<>();
+    private final Map<String, Long> decades = new ConcurrentHashMap<>();
+    private final Map<String, Long> discountBands = new ConcurrentHashMap<>();
+
+    void add(BookEntity book) {
+        update(book, 1);
+    }
+
+    void remove(BookEntity book) {
+        update(book, -1);
+    }
+
+    BookFacets toFacets() {
+        return BookFacets.of(publishers, authors, nationalities, decades, discountBands);
+    }
+
+    private void update(BookEntity book, long delta) {
+        if (book.publisher() != null) {
+            increment(publishers, book.publisher().slug(), delta);
+        }
+        if (book.authors() != null && !book.authors().isEmpty()) {
+            // Un libro cuenta una sola vez por nacionalidad aunque tenga varios autores de ella
+            Set<String> bookNationalities = new HashSet<>();
+            for (AuthorEntity author : book.authors()) {
+                increment(authors, author.slug(), delta);
+                if (author.nationality() != null && bookNationalities.add(author.nationality())) {
+                    increment(nationalities, author.nationality(), delta);
+                }
+            }
+        }
+        increment(decades, BookFacets.decade(book.publicationDate()), delta);
+        increment(discountBands, BookFacets.DiscountBand.of(book.discountPercentage()).name(), delta);
+    }
+
+    private static void increment(Map<String, Long> counts, String value, long delta) {
+        if (value != null) {
+            counts.merge(value, delta, (count, increment) -> count + increment == 0 ? null : count + increment);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.repository.AuthorRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryAuthorRepository implements AuthorRepository {
+
+    private final SlugIndexedStore<AuthorEntity> store = new SlugIndexedStore<>(
+            "Author",
+            AuthorEntity::id,
+            AuthorEntity::slug,
+            (author, id) -> new AuthorEntity(
+                    id,
+                    author.name(),
+                    author.nationality(),
+                    author.biographyEs(),
+                    author.biographyEn(),
+                    author.birthYear(),
+                    author.deathYear(),
+                    author.slug()
+            )
+    );
+
+    public InMemoryAuthorRepository() {
+    }
+
+    public InMemoryAuthorRepository(Collection<AuthorEntity> authors) {
+        authors.forEach(store::save);
+    }
+
+    @Override
+    public AuthorEntity save(AuthorEntity authorEntity) {
+        return store.save(authorEntity);
+    }
+
+    @Override
+    public Optional<AuthorEntity> findById(Long id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public List<AuthorEntity> findAllByIds(Collection<Long> ids) {
+        return store.findAllByIds(ids);
+    }
+
+    @Override
+    public Optional<AuthorEntity> findBySlug(String slug) {
+        return store.findBySlug(slug);
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+        return store.existsBySlug(slug);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,453 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.exception.VersionConflictException;
+import es.cesguiro.domain.model.BookCursor;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+import es.cesguiro.domain.repository.memory.BookQueries.Priced;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Lecturas sin bloqueo sobre índices concurrentes; las escrituras se serializan con un único cerrojo.
+// La paginación por offset usa una copia ordenada: la primera lectura tras una escritura la rehace desde el
+// skip list, en O(n) pero sin el cerrojo, y la publica si es más reciente que la que hay.
+// Las consultas con BookQuery parten del índice secundario más selectivo en vez de recorrer el catálogo
+public class InMemoryBookRepository implements BookRepository {
+
+    private final ConcurrentSkipListMap<Long, BookEntity> booksById = new ConcurrentSkipListMap<>();
+    private final Map<Long, Priced> pricedById = new ConcurrentHashMap<>();
+    private final Map<String, BookEntity> booksByIsbn = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Se incrementa al final de cada escritura; la copia ordenada es válida mientras no cambie
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0L, new BookEntity[0]));
+    private final SecondaryIndex<Long> idsByPublisherId = new SecondaryIndex<>();
+    private final SecondaryIndex<String> idsByPublisherSlug = new SecondaryIndex<>();
+    private final SecondaryIndex<Long> idsByAuthorId = new SecondaryIndex<>();
+    private final SecondaryIndex<String> idsByAuthorSlug = new SecondaryIndex<>();
+    private final SecondaryIndex<LocalDate> idsByPublicationDate = new SecondaryIndex<>();
+    private final SecondaryIndex<BigDecimal> idsByPrice = new SecondaryIndex<>();
+    private final FacetCounters facetCounters = new FacetCounters();
+
+    public InMemoryBookRepository() {
+    }
+
+    // Los libros se cargan tal cual, sin comprobar versiones; los que no tienen versión empiezan en la 0
+    public InMemoryBookRepository(Collection<BookEntity> books) {
+        writeLock.lock();
+        try {
+            for (BookEntity book : books) {
+                store(book, book.version() != null ? book.version() : 0L);
+            }
+            modifications.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size) {
+        BookEntity[] books = snapshot();
+        return new Page<>(slice(books, page, size), page, size, books.length);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size, boolean countTotal) {
+        if (countTotal) {
+            return findAll(page, size);
+        }
+        return Page.withoutTotal(slice(snapshot(), page, size), page, size);
+    }
+
+    // El precio final sale de pricedById; solo se recalcula si el libro ha cambiado después de la copia ordenada
+    @Override
+    public Page<BookSummaryEntity> findAllSummaries(int page, int size) {
+        BookEntity[] books = snapshot();
+        List<BookEntity> data = slice(books, page, size);
+        BookSummaryEntity[] summaries = new BookSummaryEntity[data.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            BookEntity book = data.get(i);
+            Priced priced = pricedById.get(book.id());
+            summaries[i] = summary(book, priced != null && priced.book() == book ? priced.finalPrice() : BookQueries.finalPrice(book));
+        }
+        return new Page<>(List.of(summaries), page, size, books.length);
+    }
+
+    @Override
+    public List<BigDecimal> findFinalPrices(List<BookEntity> bookEntities) {
+        BigDecimal[] prices = new BigDecimal[bookEntities.size()];
+        for (int i = 0; i < prices.length; i++) {
+            BookEntity book = bookEntities.get(i);
+            Priced priced = book.id() == null ? null : pricedById.get(book.id());
+            prices[i] = priced != null && priced.book() == book ? priced.finalPrice() : BookQueries.finalPrice(book);
+        }
+        return List.of(prices);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(BookQuery query, int page, int size) {
+        Page.validate(page, size);
+        if (!query.hasFilters() && query.isOrderedById()) {
+            return findAll(page, size);
+        }
+        // Solo se ordenan los page * size primeros: un montículo acotado en vez de ordenar todas las coincidencias
+        Comparator<Priced> comparator = BookQueries.pricedComparator(query);
+        long limit = (long) page * size;
+        PriorityQueue<Priced> top = new PriorityQueue<>(comparator.reversed());
+        int total = 0;
+        for (Iterator<Priced> candidates = candidates(query); candidates.hasNext(); ) {
+            Priced candidate = candidates.next();
+            if (!BookQueries.matches(query, candidate)) {
+                continue;
+            }
+            total++;
+            if (top.size() < limit) {
+                top.add(candidate);
+            } else if (comparator.compare(candidate, top.peek()) < 0) {
+                top.poll();
+                top.add(candidate);
+            }
+        }
+        Priced[] ranked = top.toArray(new Priced[0]);
+        Arrays.sort(ranked, comparator);
+        int from = (int) Math.min(limit - size, ranked.length);
+        List<BookEntity> data = new ArrayList<>(ranked.length - from);
+        for (int i = from; i < ranked.length; i++) {
+            data.add(ranked[i].book());
+        }
+        return new Page<>(List.copyOf(data), page, size, total);
+    }
+
+    // Sin filtros se usan los contadores mantenidos en cada escritura; con filtros se cuentan solo los candidatos de los índices
+    @Override
+    public BookFacets countFacets(BookQuery query) {
+        if (!query.hasFilters()) {
+            return facetCounters.toFacets();
+        }
+        FacetCounters counters = new FacetCounters();
+        for (Iterator<Priced> candidates = candidates(query); candidates.hasNext(); ) {
+            Priced candidate = candidates.next();
+            if (BookQueries.matches(query, candidate)) {
+                counters.add(candidate.book());
+            }
+        }
+        return counters.toFacets();
+    }
+
+    @Override
+    public CursorPage<BookEntity> findAfter(String cursor, int size) {
+        CursorPage.validate(size);
+        Long lastId = BookCursor.decode(cursor);
+        Iterator<BookEntity> tail = (lastId == null ? booksById : booksById.tailMap(lastId, false))
+                .values()
+                .iterator();
+        List<BookEntity> data = new ArrayList<>(Math.min(size, 1024));
+        while (tail.hasNext() && data.size() < size) {
+            data.add(tail.next());
+        }
+        String nextCursor = tail.hasNext() && !data.isEmpty() ? BookCursor.encode(data.getLast().id()) : null;
+        return new CursorPage<>(List.copyOf(data), size, nextCursor);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return Arrays.stream(snapshot());
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        return isbn == null ? Optional.empty() : Optional.ofNullable(booksByIsbn.get(isbn));
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        return isbn != null && booksByIsbn.containsKey(isbn);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return id != null && booksById.containsKey(id);
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbns(Collection<String> isbns) {
+        List<BookEntity> books = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            BookEntity book = isbn == null ? null : booksByIsbn.get(isbn);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    // Compare-and-set: con versión, solo se guarda si coincide con la almacenada, y se devuelve con la siguiente
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        writeLock.lock();
+        try {
+            BookEntity saved = store(bookEntity, nextVersion(bookEntity));
+            modifications.incrementAndGet();
+            return saved;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        List<BookEntity> saved = new ArrayList<>(bookEntities.size());
+        writeLock.lock();
+        try {
+            checkBatch(bookEntities);
+            for (BookEntity bookEntity : bookEntities) {
+                saved.add(store(bookEntity, nextVersion(bookEntity)));
+            }
+            modifications.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(booksById.get(id));
+    }
+
+    @Override
+    public int deleteByIsbn(String isbn) {
+        if (isbn == null) {
+            return 0;
+        }
+        writeLock.lock();
+        try {
+            BookEntity removed = booksByIsbn.remove(isbn);
+            if (removed == null) {
+                return 0;
+            }
+            booksById.remove(removed.id());
+            unindex(pricedById.remove(removed.id()));
+            modifications.incrementAndGet();
+            return 1;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return booksById.size();
+    }
+
+    // Llamar siempre con writeLock adquirido. Recorre el lote en orden, con las versiones e ISBN que irá dejando,
+    // y lanza las mismas excepciones que store sin escribir nada: así saveAll guarda todo el lote o nada
+    private void checkBatch(List<BookEntity> bookEntities) {
+        Map<Long, BookEntity> batchById = new HashMap<>();
+        Map<String, Long> isbnOwners = new HashMap<>();
+        long provisionalId = 0;
+        for (BookEntity bookEntity : bookEntities) {
+            Long id = bookEntity.id();
+            BookEntity current = id == null ? null : batchById.containsKey(id) ? batchById.get(id) : booksById.get(id);
+            long version = nextVersion(bookEntity, current);
+            // Los libros nuevos reciben un id provisional negativo, distinto de cualquier id guardado
+            Long owner = id != null ? id : --provisionalId;
+            Long sameIsbn = isbnOwners.containsKey(bookEntity.isbn())
+                    ? isbnOwners.get(bookEntity.isbn())
+                    : Optional.ofNullable(booksByIsbn.get(bookEntity.isbn())).map(BookEntity::id).orElse(null);
+            if (sameIsbn != null && !sameIsbn.equals(owner)) {
+                throw new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists");
+            }
+            if (current != null && !current.isbn().equals(bookEntity.isbn())) {
+                isbnOwners.put(current.isbn(), null);
+            }
+            isbnOwners.put(bookEntity.isbn(), owner);
+            if (id != null) {
+                batchById.put(id, bookEntity.withVersion(version));
+            }
+        }
+    }
+
+    // Llamar siempre con writeLock adquirido
+    private long nextVersion(BookEntity bookEntity) {
+        return nextVersion(bookEntity, bookEntity.id() == null ? null : booksById.get(bookEntity.id()));
+    }
+
+    private static long nextVersion(BookEntity bookEntity, BookEntity current) {
+        if (bookEntity.id() != null && bookEntity.version() != null) {
+            Long currentVersion = current != null ? current.version() : null;
+            if (!bookEntity.version().equals(currentVersion)) {
+                throw new VersionConflictException(bookEntity.id(), bookEntity.version(), currentVersion);
+            }
+        }
+        return current != null ? current.version() + 1 : 0L;
+    }
+
+    // Llamar siempre con writeLock adquirido
+    private BookEntity store(BookEntity bookEntity, long version) {
+        BookEntity sameIsbn = booksByIsbn.get(bookEntity.isbn());
+        if (sameIsbn != null && !sameIsbn.id().equals(bookEntity.id())) {
+            throw new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists");
+        }
+        BookEntity book;
+        if (bookEntity.id() == null) {
+            book = bookEntity.withId(sequence.incrementAndGet()).withVersion(version);
+        } else {
+            sequence.accumulateAndGet(bookEntity.id(), Math::max);
+            book = Long.valueOf(version).equals(bookEntity.version()) ? bookEntity : bookEntity.withVersion(version);
+        }
+        BookEntity previous = booksById.put(book.id(), book);
+        if (previous != null && !previous.isbn().equals(book.isbn())) {
+            booksByIsbn.remove(previous.isbn());
+        }
+        booksByIsbn.put(book.isbn(), book);
+        Priced priced = Priced.of(book);
+        Priced previousPriced = pricedById.put(book.id(), priced);
+        if (previousPriced != null) {
+            unindex(previousPriced);
+        }
+        index(priced);
+        return book;
+    }
+
+    // Llamar siempre con writeLock adquirido
+    private void index(Priced priced) {
+        BookEntity book = priced.book();
+        if (book.publisher() != null) {
+            idsByPublisherId.add(book.publisher().id(), book.id());
+            idsByPublisherSlug.add(book.publisher().slug(), book.id());
+        }
+        if (book.authors() != null) {
+            for (AuthorEntity author : book.authors()) {
+                idsByAuthorId.add(author.id(), book.id());
+                idsByAuthorSlug.add(author.slug(), book.id());
+            }
+        }
+        idsByPublicationDate.add(book.publicationDate(), book.id());
+        idsByPrice.add(priced.finalPrice(), book.id());
+        facetCounters.add(book);
+    }
+
+    // Llamar siempre con writeLock adquirido
+    private void unindex(Priced priced) {
+        BookEntity book = priced.book();
+        if (book.publisher() != null) {
+            idsByPublisherId.remove(book.publisher().id(), book.id());
+            idsByPublisherSlug.remove(book.publisher().slug(), book.id());
+        }
+        if (book.authors() != null) {
+            for (AuthorEntity author : book.authors()) {
+                idsByAuthorId.remove(author.id(), book.id());
+                idsByAuthorSlug.remove(author.slug(), book.id());
+            }
+        }
+        idsByPublicationDate.remove(book.publicationDate(), book.id());
+        idsByPrice.remove(priced.finalPrice(), book.id());
+        facetCounters.remove(book);
+    }
+
+    // Igualdades primero (editorial, autor) y rangos después; sin filtros se recorre todo el catálogo
+    private Iterator<Priced> candidates(BookQuery query) {
+        Collection<Long> ids = null;
+        if (query.publisherId() != null) {
+            ids = smallest(ids, idsByPublisherId.get(query.publisherId()));
+        }
+        if (query.publisherSlug() != null) {
+            ids = smallest(ids, idsByPublisherSlug.get(query.publisherSlug()));
+        }
+        if (query.authorId() != null) {
+            ids = smallest(ids, idsByAuthorId.get(query.authorId()));
+        }
+        if (query.authorSlug() != null) {
+            ids = smallest(ids, idsByAuthorSlug.get(query.authorSlug()));
+        }
+        if (ids == null && query.hasPublicationDateRange()) {
+            ids = idsByPublicationDate.range(query.publishedFrom(), query.publishedTo());
+        }
+        if (ids == null && query.hasPriceRange()) {
+            ids = idsByPrice.range(query.minPrice(), query.maxPrice());
+        }
+        if (ids == null) {
+            return pricedById.values().iterator();
+        }
+        // Un libro puede cambiar o borrarse entre la lectura del índice y la del mapa: matches vuelve a comprobarlo
+        return ids.stream()
+                .map(pricedById::get)
+                .filter(Objects::nonNull)
+                .iterator();
+    }
+
+    // La copia se hace sin cerrojo: recoge como mínimo las escrituras contadas en modification, y si ve alguna más
+    // a medias la siguiente escritura la deja obsoleta. Si dos lectores la rehacen a la vez se queda la más reciente
+    private BookEntity[] snapshot() {
+        long modification = modifications.get();
+        Snapshot current = snapshot.get();
+        if (current.modification() == modification) {
+            return current.books();
+        }
+        Snapshot rebuilt = new Snapshot(modification, booksById.values().toArray(new BookEntity[0]));
+        snapshot.accumulateAndGet(rebuilt, (published, candidate) ->
+                candidate.modification() > published.modification() ? candidate : published);
+        return rebuilt.books();
+    }
+
+    private static Collection<Long> smallest(Collection<Long> current, Collection<Long> candidate) {
+        return current == null || candidate.size() < current.size() ? candidate : current;
+    }
+
+    private static List<BookEntity> slice(BookEntity[] books, int page, int size) {
+        Page.validate(page, size);
+        long from = Math.min((long) (page - 1) * size, books.length);
+        int to = (int) Math.min(from + size, books.length);
+        return List.of(Arrays.copyOfRange(books, (int) from, to));
+    }
+
+    private static BookSummaryEntity summary(BookEntity book, BigDecimal finalPrice) {
+        List<String> authorNames = List.of();
+        if (book.authors() != null && !book.authors().isEmpty()) {
+            String[] names = new String[book.authors().size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = book.authors().get(i).name();
+            }
+            authorNames = List.of(names);
+        }
+        return new BookSummaryEntity(
+                book.id(),
+                book.isbn(),
+                book.titleEs(),
+                book.titleEn(),
+                finalPrice,
+                book.cover(),
+                book.publisher() != null ? book.publisher().name() : null,
+                authorNames
+        );
+    }
+
+    private record Snapshot(long modification, BookEntity[] books) {
+    }
+}
@@ -0,0 +1,54 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.repository.PublisherRepository;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryPublisherRepository implements PublisherRepository {
+
+    private final SlugIndexedStore<PublisherEntity> store = new SlugIndexedStore<>(
+            "Publisher",
+            PublisherEntity::id,
+            PublisherEntity::slug,
+            (publisher, id) -> new PublisherEntity(id, publisher.name(), publisher.slug())
+    );
+
+    public InMemoryPublisherRepository() {
+    }
+
+    public InMemoryPublisherRepository(Collection<PublisherEntity> publishers) {
+        publishers.forEach(store::save);
+    }
+
+    @Override
+    public Optional<PublisherEntity> findById(Long id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public List<PublisherEntity> findAllByIds(Collection<Long> ids) {
+        return store.findAllByIds(ids);
+    }
+
+    @Override
+    public Optional<PublisherEntity> findBySlug(String slug) {
+        return store.findBySlug(slug);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.existsById(id);
+    }
+
+    @Override
+    public PublisherEntity save(PublisherEntity publisherEntity) {
+        return store.save(publisherEntity);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
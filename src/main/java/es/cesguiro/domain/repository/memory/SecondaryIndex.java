@@ -0,0 +1,52 @@
+package es.cesguiro.domain.repository.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Índice ordenado valor -> ids de libro. Las escrituras deben serializarse fuera; las lecturas no bloquean
+class SecondaryIndex<K extends Comparable<? super K>> {
+
+    private final ConcurrentSkipListMap<K, Set<Long>> ids = new ConcurrentSkipListMap<>();
+
+    void add(K key, Long id) {
+        if (key != null) {
+            ids.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    void remove(K key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> keyIds = ids.get(key);
+        if (keyIds != null) {
+            keyIds.remove(id);
+            if (keyIds.isEmpty()) {
+                ids.remove(key, keyIds);
+            }
+        }
+    }
+
+    Set<Long> get(K key) {
+        return key == null ? Set.of() : ids.getOrDefault(key, Set.of());
+    }
+
+    // Límites inclusivos; null = sin límite por ese lado
+    Collection<Long> range(K from, K to) {
+        NavigableMap<K, Set<Long>> range = ids;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        List<Long> rangeIds = new ArrayList<>();
+        range.values().forEach(rangeIds::addAll);
+        return rangeIds;
+    }
+}
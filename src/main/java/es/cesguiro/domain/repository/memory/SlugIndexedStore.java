@@ -0,0 +1,93 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Almacén común de autores y editoriales: índices por id y por slug
+class SlugIndexedStore<E> {
+
+    private final Map<Long, E> byId = new ConcurrentHashMap<>();
+    private final Map<String, E> bySlug = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final String name;
+    private final Function<E, Long> id;
+    private final Function<E, String> slug;
+    private final BiFunction<E, Long, E> withId;
+
+    SlugIndexedStore(String name, Function<E, Long> id, Function<E, String> slug, BiFunction<E, Long, E> withId) {
+        this.name = name;
+        this.id = id;
+        this.slug = slug;
+        this.withId = withId;
+    }
+
+    Optional<E> findById(Long entityId) {
+        return entityId == null ? Optional.empty() : Optional.ofNullable(byId.get(entityId));
+    }
+
+    Optional<E> findBySlug(String entitySlug) {
+        return entitySlug == null ? Optional.empty() : Optional.ofNullable(bySlug.get(entitySlug));
+    }
+
+    boolean existsById(Long entityId) {
+        return entityId != null && byId.containsKey(entityId);
+    }
+
+    boolean existsBySlug(String entitySlug) {
+        return entitySlug != null && bySlug.containsKey(entitySlug);
+    }
+
+    List<E> findAllByIds(Collection<Long> ids) {
+        List<E> entities = new ArrayList<>(ids.size());
+        for (Long entityId : ids) {
+            E entity = entityId == null ? null : byId.get(entityId);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    E save(E entity) {
+        writeLock.lock();
+        try {
+            String entitySlug = slug.apply(entity);
+            E sameSlug = entitySlug == null ? null : bySlug.get(entitySlug);
+            if (sameSlug != null && !id.apply(sameSlug).equals(id.apply(entity))) {
+                throw new BusinessException(name + " with slug " + entitySlug + " already exists");
+            }
+            E saved = entity;
+            if (id.apply(saved) == null) {
+                saved = withId.apply(saved, sequence.incrementAndGet());
+            } else {
+                sequence.accumulateAndGet(id.apply(saved), Math::max);
+            }
+            E previous = byId.put(id.apply(saved), saved);
+            if (previous != null && slug.apply(previous) != null && !slug.apply(previous).equals(entitySlug)) {
+                bySlug.remove(slug.apply(previous));
+            }
+            if (entitySlug != null) {
+                bySlug.put(entitySlug, saved);
+            }
+            return saved;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return byId.size();
+    }
+}
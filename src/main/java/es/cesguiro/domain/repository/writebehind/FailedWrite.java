@@ -0,0 +1,10 @@
+package es.cesguiro.domain.repository.writebehind;
+
+import es.cesguiro.domain.repository.entity.BookEntity;
+
+// Guardado encolado que no llegó al repositorio: el libro tal como se devolvió al llamante y el motivo
+public record FailedWrite(
+        BookEntity book,
+        RuntimeException cause
+) {
+}
@@ -0,0 +1,332 @@
+package es.cesguiro.domain.repository.writebehind;
+
+import es.cesguiro.domain.metrics.Counter;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.metrics.Timer;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Decorador write-behind: las actualizaciones sin versión se encolan por id (la última gana) y se vuelcan con saveAll
+// al llegar a maxBatchSize o cada maxDelay. findById/findByIsbn ven las escrituras pendientes; listados, búsquedas
+// y facetas leen del repositorio decorado y las ven tras el siguiente volcado.
+// Si un libro no se puede guardar ni en el lote ni reintentándolo solo, pasa a la lista de escrituras fallidas
+// (drainFailedWrites) y se avisa al listener: el llamante ya recibió ese guardado como hecho.
+// Se asume que es el único que escribe en el repositorio decorado
+public class WriteBehindBookRepository implements BookRepository, AutoCloseable {
+
+    private static final String PREFIX = "book.writebehind.";
+
+    private final BookRepository bookRepository;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<Long, BookEntity> pendingById = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingIdByIsbn = new ConcurrentHashMap<>();
+    // ISBN guardado de cada libro encolado, y los que dejarán de ser suyos al volcar un cambio de ISBN
+    private final Map<Long, String> storedIsbnById = new ConcurrentHashMap<>();
+    private final Map<String, Long> releasedIsbns = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<FailedWrite> failedWrites = new ArrayList<>();
+    private Consumer<FailedWrite> failureListener = failedWrite -> {
+    };
+    private volatile boolean closed;
+
+    private final Timer flushTimer;
+    private final Counter coalesced;
+    private final Counter flushed;
+    private final Counter failed;
+
+    public WriteBehindBookRepository(BookRepository bookRepository) {
+        this(bookRepository, WriteBehindOptions.defaults(), MetricsRegistry.noop());
+    }
+
+    public WriteBehindBookRepository(BookRepository bookRepository, WriteBehindOptions options, MetricsRegistry metricsRegistry) {
+        this.bookRepository = bookRepository;
+        this.maxBatchSize = options.maxBatchSize();
+        this.flushTimer = metricsRegistry.timer(PREFIX + "flush");
+        this.coalesced = metricsRegistry.counter(PREFIX + "coalesced");
+        this.flushed = metricsRegistry.counter(PREFIX + "flushed");
+        this.failed = metricsRegistry.counter(PREFIX + "failed");
+        metricsRegistry.gauge(PREFIX + "pending", this::pendingWrites);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("book-write-behind").daemon().factory()
+        );
+        long delayNanos = options.maxDelay().toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushInBackground, delayNanos, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Se llama en el hilo que vuelca, con el lock de escritura adquirido
+    public void setFailureListener(Consumer<FailedWrite> failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size) {
+        return bookRepository.findAll(page, size);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(int page, int size, boolean countTotal) {
+        return bookRepository.findAll(page, size, countTotal);
+    }
+
+    @Override
+    public Page<BookSummaryEntity> findAllSummaries(int page, int size) {
+        return bookRepository.findAllSummaries(page, size);
+    }
+
+    @Override
+    public List<BigDecimal> findFinalPrices(List<BookEntity> bookEntities) {
+        return bookRepository.findFinalPrices(bookEntities);
+    }
+
+    @Override
+    public Page<BookEntity> findAll(BookQuery query, int page, int size) {
+        return bookRepository.findAll(query, page, size);
+    }
+
+    @Override
+    public BookFacets countFacets(BookQuery query) {
+        return bookRepository.countFacets(query);
+    }
+
+    @Override
+    public CursorPage<BookEntity> findAfter(String cursor, int size) {
+        return bookRepository.findAfter(cursor, size);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return bookRepository.streamAll();
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        BookEntity queued = queuedByIsbn(isbn);
+        if (queued != null) {
+            return Optional.of(queued);
+        }
+        return isReleased(isbn) ? Optional.empty() : bookRepository.findByIsbn(isbn);
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        if (queuedByIsbn(isbn) != null) {
+            return true;
+        }
+        return !isReleased(isbn) && bookRepository.existsByIsbn(isbn);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return (id != null && pendingById.containsKey(id)) || bookRepository.existsById(id);
+    }
+
+    // Lectura por lotes (la usa el importador antes de saveAll): se vuelca antes para leer un estado coherente
+    @Override
+    public List<BookEntity> findAllByIsbns(Collection<String> isbns) {
+        flush();
+        return bookRepository.findAllByIsbns(isbns);
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        writeLock.lock();
+        try {
+            // Las altas necesitan el id del repositorio y los guardados con versión su compare-and-set: no se retrasan
+            if (bookEntity.id() == null || bookEntity.version() != null || closed) {
+                flush(bookEntity.id());
+                return bookRepository.save(bookEntity);
+            }
+            return enqueue(bookEntity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        writeLock.lock();
+        try {
+            flush();
+            return bookRepository.saveAll(bookEntities);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        BookEntity queued = id == null ? null : pendingById.get(id);
+        return queued != null ? Optional.of(queued) : bookRepository.findById(id);
+    }
+
+    @Override
+    public int deleteByIsbn(String isbn) {
+        writeLock.lock();
+        try {
+            flush();
+            return bookRepository.deleteByIsbn(isbn);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void flush() {
+        writeLock.lock();
+        try {
+            write(List.copyOf(pendingById.values()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int pendingWrites() {
+        return pendingById.size();
+    }
+
+    // Devuelve y olvida las escrituras fallidas; se pueden volver a guardar una vez corregidas
+    public List<FailedWrite> drainFailedWrites() {
+        writeLock.lock();
+        try {
+            List<FailedWrite> drained = List.copyOf(failedWrites);
+            failedWrites.clear();
+            return drained;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Vuelca lo pendiente; los guardados posteriores ya no se retrasan
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        flush();
+    }
+
+    private BookEntity enqueue(BookEntity bookEntity) {
+        BookEntity previous = pendingById.get(bookEntity.id());
+        Long version;
+        if (previous != null) {
+            version = previous.version();
+        } else {
+            BookEntity stored = bookRepository.findById(bookEntity.id()).orElse(null);
+            version = nextVersion(stored);
+            if (stored != null && stored.isbn() != null) {
+                storedIsbnById.put(stored.id(), stored.isbn());
+            }
+        }
+        BookEntity queued = bookEntity.withVersion(version);
+        if (queued.isbn() != null) {
+            pendingIdByIsbn.put(queued.isbn(), queued.id());
+        }
+        pendingById.put(queued.id(), queued);
+        String storedIsbn = storedIsbnById.get(queued.id());
+        if (storedIsbn != null && !storedIsbn.equals(queued.isbn())) {
+            releasedIsbns.put(storedIsbn, queued.id());
+        } else if (storedIsbn != null) {
+            releasedIsbns.remove(storedIsbn, queued.id());
+        }
+        if (previous != null) {
+            coalesced.increment();
+            if (previous.isbn() != null && !previous.isbn().equals(queued.isbn())) {
+                pendingIdByIsbn.remove(previous.isbn(), previous.id());
+            }
+        }
+        if (pendingById.size() >= maxBatchSize) {
+            flush();
+        }
+        return queued;
+    }
+
+    // Versión que asignará el repositorio al volcar: una sola escritura por libro, aunque se hayan agrupado varias
+    private static Long nextVersion(BookEntity stored) {
+        if (stored == null) {
+            return 0L;
+        }
+        return stored.version() == null ? null : stored.version() + 1;
+    }
+
+    private void flush(Long id) {
+        BookEntity queued = id == null ? null : pendingById.get(id);
+        if (queued != null) {
+            write(List.of(queued));
+        }
+    }
+
+    // Las entradas siguen visibles para las lecturas hasta que el repositorio decorado las tiene
+    private void write(List<BookEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BookEntity> writes = batch.stream().map(queued -> queued.withVersion(null)).toList();
+        List<FailedWrite> failures = new ArrayList<>();
+        try {
+            flushTimer.time(() -> bookRepository.saveAll(writes));
+            flushed.add(writes.size());
+        } catch (RuntimeException e) {
+            // Se reintenta libro a libro para que un libro erróneo no impida guardar el resto del lote
+            for (int i = 0; i < writes.size(); i++) {
+                try {
+                    bookRepository.save(writes.get(i));
+                    flushed.increment();
+                } catch (RuntimeException saveFailure) {
+                    failed.increment();
+                    failures.add(new FailedWrite(batch.get(i), saveFailure));
+                }
+            }
+        }
+        for (BookEntity queued : batch) {
+            pendingById.remove(queued.id());
+            if (queued.isbn() != null) {
+                pendingIdByIsbn.remove(queued.isbn(), queued.id());
+            }
+            String storedIsbn = storedIsbnById.remove(queued.id());
+            if (storedIsbn != null) {
+                releasedIsbns.remove(storedIsbn, queued.id());
+            }
+        }
+        failedWrites.addAll(failures);
+        failures.forEach(failureListener);
+    }
+
+    // Una excepción del listener no debe cancelar los volcados periódicos (flush() sí la propaga).
+    // Las escrituras fallidas ya están en failedWrites antes de avisar al listener
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    // El libro guardado con este ISBN tiene pendiente un cambio de ISBN: al volcarlo dejará de tenerlo
+    private boolean isReleased(String isbn) {
+        return isbn != null && releasedIsbns.containsKey(isbn);
+    }
+
+    private BookEntity queuedByIsbn(String isbn) {
+        Long id = isbn == null ? null : pendingIdByIsbn.get(isbn);
+        BookEntity queued = id == null ? null : pendingById.get(id);
+        return queued != null && isbn.equals(queued.isbn()) ? queued : null;
+    }
+}
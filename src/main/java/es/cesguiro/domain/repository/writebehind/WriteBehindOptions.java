@@ -0,0 +1,22 @@
+package es.cesguiro.domain.repository.writebehind;
+
+import java.time.Duration;
+
+public record WriteBehindOptions(
+        int maxBatchSize,
+        Duration maxDelay
+) {
+
+    public WriteBehindOptions {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be greater than zero");
+        }
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("Max delay must be greater than zero");
+        }
+    }
+
+    public static WriteBehindOptions defaults() {
+        return new WriteBehindOptions(500, Duration.ofMillis(200));
+    }
+}
@@ -1,17 +1,39 @@
 package es.cesguiro.domain.service;
 
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.FacetedPage;
 import es.cesguiro.domain.model.Page;
 import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookService {
 
     Page<BookDto> getAll(int page, int size);
+    Page<BookDto> getAll(int page, int size, boolean countTotal);
+    // SUMMARY evita mapear sinopsis y datos de autor que un listado no muestra
+    Page<BookDto> getAll(int page, int size, BookProjection projection);
+    // Para listados: id, ISBN, títulos, precio final, portada y nombres de editorial y autores
+    Page<BookSummaryDto> getSummaries(int page, int size);
+    // Filtros por editorial, autor, precio final y fecha de publicación, con orden configurable
+    Page<BookDto> getAll(BookQuery query, int page, int size);
+    // La página filtrada junto con los recuentos por editorial, autor, nacionalidad, década y tramo de descuento
+    FacetedPage<BookDto> getAllWithFacets(BookQuery query, int page, int size);
+    CursorPage<BookDto> getAfter(String cursor, int size);
+    Stream<BookDto> streamAll();
+    // Búsqueda de texto en títulos, sinopsis y autores, ordenada por relevancia
+    Page<BookDto> search(String query, int page, int size);
     BookDto getByIsbn(String isbn);
     Optional<BookDto> findByIsbn(String isbn);
     BookDto create(BookDto bookDto);
     BookDto update(BookDto bookDto);
     void deleteByIsbn(String isbn);
+    BookImportReport createAll(Stream<BookDto> bookDtos);
+    BookImportReport upsertAll(Stream<BookDto> bookDtos);
 
 }
@@ -0,0 +1,219 @@
+package es.cesguiro.domain.service.cache;
+
+import es.cesguiro.domain.service.dto.BookDto;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// LRU aproximado acotado por tamaño y TTL, indexado por ISBN. Las entradas vacías (Optional.empty) son la caché negativa.
+// Cada carga deja en su ISBN una marca con un sello: solo se guarda si la marca sigue ahí al terminar, así que una
+// invalidación descarta únicamente las cargas de ese ISBN (o de ese id) y no las del resto
+class BookCache {
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> isbnById = new ConcurrentHashMap<>();
+    // Sello de cada id invalidado, mientras pueda quedar en curso alguna carga anterior a la invalidación
+    private final ConcurrentHashMap<Long, Long> invalidatedIds = new ConcurrentHashMap<>();
+    private final AtomicLong stamps = new AtomicLong();
+    private final AtomicLong accessTicks = new AtomicLong();
+    private final AtomicInteger loadsInFlight = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    BookCache(int maximumSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.clock = clock;
+    }
+
+    // Devuelve null si el ISBN no está en caché
+    Optional<BookDto> get(String isbn) {
+        Entry entry = entries.get(isbn);
+        if (entry == null || entry.isLoading()) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            if (entries.remove(isbn, entry)) {
+                unlink(isbn, entry);
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        entry.lastAccess = accessTicks.incrementAndGet();
+        hits.increment();
+        return entry.value;
+    }
+
+    // Cada startLoad debe cerrarse con endLoad, también si la carga falla
+    long startLoad(String isbn) {
+        loadsInFlight.incrementAndGet();
+        long stamp = stamps.incrementAndGet();
+        entries.compute(isbn, (key, current) -> {
+            if (current != null && !current.isLoading() && current.expiresAt > clock.millis()) {
+                return current;
+            }
+            if (current != null) {
+                unlink(key, current);
+            }
+            return Entry.loading(stamp);
+        });
+        return stamp;
+    }
+
+    void put(String isbn, Optional<BookDto> value, long stamp) {
+        long ttl = value.isPresent() ? ttlMillis : negativeTtlMillis;
+        if (ttl <= 0) {
+            return;
+        }
+        Long id = value.map(BookDto::id).orElse(null);
+        Entry loaded = Entry.loaded(value, clock.millis() + ttl, accessTicks.incrementAndGet());
+        Entry result = entries.computeIfPresent(isbn, (key, current) -> {
+            if (!current.isLoading() || current.stamp != stamp) {
+                return current;
+            }
+            if (id == null) {
+                return loaded;
+            }
+            // El id se enlaza antes de comprobar si se invalidó: una invalidación posterior lo encuentra y borra la entrada
+            isbnById.put(id, key);
+            if (invalidatedIds.getOrDefault(id, 0L) > stamp) {
+                isbnById.remove(id, key);
+                return null;
+            }
+            return loaded;
+        });
+        if (result == loaded) {
+            evictIfNeeded();
+        }
+    }
+
+    void endLoad(String isbn, long stamp) {
+        long horizon = stamps.get();
+        entries.computeIfPresent(isbn, (key, current) -> current.isLoading() && current.stamp == stamp ? null : current);
+        // Sin cargas en curso ninguna puede ser anterior a las invalidaciones ya registradas
+        if (loadsInFlight.decrementAndGet() == 0) {
+            invalidatedIds.values().removeIf(invalidatedAt -> invalidatedAt <= horizon);
+        }
+    }
+
+    void invalidate(String isbn) {
+        if (isbn == null) {
+            return;
+        }
+        Entry removed = entries.remove(isbn);
+        if (removed != null) {
+            unlink(isbn, removed);
+        }
+    }
+
+    void invalidateById(Long id) {
+        if (id == null) {
+            return;
+        }
+        invalidatedIds.put(id, stamps.incrementAndGet());
+        String isbn = isbnById.get(id);
+        if (isbn != null) {
+            invalidate(isbn);
+        }
+    }
+
+    void invalidateAll() {
+        isbnById.clear();
+        entries.clear();
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void unlink(String isbn, Entry entry) {
+        if (entry.value != null) {
+            entry.value.map(BookDto::id).ifPresent(id -> isbnById.remove(id, isbn));
+        }
+    }
+
+    // Al pasarse del máximo se desalojan de una vez las entradas menos usadas hasta dejar un 1% de holgura.
+    // Si otro hilo ya está desalojando no se espera
+    private void evictIfNeeded() {
+        if (entries.size() <= maximumSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = entries.size() - (maximumSize - maximumSize / 100);
+            if (excess <= 0) {
+                return;
+            }
+            PriorityQueue<Map.Entry<String, Entry>> leastRecentlyUsed = new PriorityQueue<>(
+                    Comparator.comparingLong((Map.Entry<String, Entry> candidate) -> candidate.getValue().lastAccess).reversed()
+            );
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                if (candidate.getValue().isLoading()) {
+                    continue;
+                }
+                leastRecentlyUsed.add(Map.entry(candidate.getKey(), candidate.getValue()));
+                if (leastRecentlyUsed.size() > excess) {
+                    leastRecentlyUsed.poll();
+                }
+            }
+            for (Map.Entry<String, Entry> eldest : leastRecentlyUsed) {
+                if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                    unlink(eldest.getKey(), eldest.getValue());
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // value == null es la marca de una carga en curso
+    private static final class Entry {
+
+        private final Optional<BookDto> value;
+        private final long stamp;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(Optional<BookDto> value, long stamp, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.stamp = stamp;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+
+        static Entry loading(long stamp) {
+            return new Entry(null, stamp, 0L, 0L);
+        }
+
+        static Entry loaded(Optional<BookDto> value, long expiresAt, long lastAccess) {
+            return new Entry(value, 0L, expiresAt, lastAccess);
+        }
+
+        boolean isLoading() {
+            return value == null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package es.cesguiro.domain.service.cache;
+
+public record CacheStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long size
+) {
+
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,161 @@
+package es.cesguiro.domain.service.cache;
+
+import es.cesguiro.domain.exception.ResourceNotFoundException;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.FacetedPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
+import es.cesguiro.domain.service.dto.BookImportResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class CachingBookService implements BookService {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final BookService bookService;
+    private final BookCache cache;
+
+    public CachingBookService(BookService bookService) {
+        this(bookService, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, Clock.systemUTC());
+    }
+
+    public CachingBookService(BookService bookService, int maximumSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        this.bookService = bookService;
+        this.cache = new BookCache(maximumSize, ttl, negativeTtl, clock);
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size) {
+        return bookService.getAll(page, size);
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size, boolean countTotal) {
+        return bookService.getAll(page, size, countTotal);
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size, BookProjection projection) {
+        return bookService.getAll(page, size, projection);
+    }
+
+    @Override
+    public Page<BookSummaryDto> getSummaries(int page, int size) {
+        return bookService.getSummaries(page, size);
+    }
+
+    @Override
+    public Page<BookDto> getAll(BookQuery query, int page, int size) {
+        return bookService.getAll(query, page, size);
+    }
+
+    @Override
+    public FacetedPage<BookDto> getAllWithFacets(BookQuery query, int page, int size) {
+        return bookService.getAllWithFacets(query, page, size);
+    }
+
+    @Override
+    public CursorPage<BookDto> getAfter(String cursor, int size) {
+        return bookService.getAfter(cursor, size);
+    }
+
+    @Override
+    public Stream<BookDto> streamAll() {
+        return bookService.streamAll();
+    }
+
+    @Override
+    public Page<BookDto> search(String query, int page, int size) {
+        return bookService.search(query, page, size);
+    }
+
+    @Override
+    public BookDto getByIsbn(String isbn) {
+        return findByIsbn(isbn)
+                .orElseThrow(() -> new ResourceNotFoundException("Book with isbn " + isbn + " not found"));
+    }
+
+    @Override
+    public Optional<BookDto> findByIsbn(String isbn) {
+        if (isbn == null) {
+            return bookService.findByIsbn(null);
+        }
+        Optional<BookDto> cached = cache.get(isbn);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = cache.startLoad(isbn);
+        try {
+            Optional<BookDto> loaded = bookService.findByIsbn(isbn);
+            cache.put(isbn, loaded, stamp);
+            return loaded;
+        } finally {
+            cache.endLoad(isbn, stamp);
+        }
+    }
+
+    @Override
+    public BookDto create(BookDto bookDto) {
+        try {
+            return bookService.create(bookDto);
+        } finally {
+            cache.invalidate(bookDto.isbn());
+        }
+    }
+
+    @Override
+    public BookDto update(BookDto bookDto) {
+        try {
+            return bookService.update(bookDto);
+        } finally {
+            // El ISBN puede haber cambiado: se invalida el antiguo (por id) y el nuevo
+            cache.invalidateById(bookDto.id());
+            cache.invalidate(bookDto.isbn());
+        }
+    }
+
+    @Override
+    public void deleteByIsbn(String isbn) {
+        try {
+            bookService.deleteByIsbn(isbn);
+        } finally {
+            cache.invalidate(isbn);
+        }
+    }
+
+    @Override
+    public BookImportReport createAll(Stream<BookDto> bookDtos) {
+        return invalidateImported(bookService.createAll(bookDtos));
+    }
+
+    @Override
+    public BookImportReport upsertAll(Stream<BookDto> bookDtos) {
+        return invalidateImported(bookService.upsertAll(bookDtos));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private BookImportReport invalidateImported(BookImportReport report) {
+        report.results().stream()
+                .filter(BookImportResult::isSuccess)
+                .forEach(result -> cache.invalidate(result.isbn()));
+        return report;
+    }
+}
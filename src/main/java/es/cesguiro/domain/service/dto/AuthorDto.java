@@ -1,9 +1,14 @@
 package es.cesguiro.domain.service.dto;
 
+import es.cesguiro.domain.validation.spring_validator.OnCreate;
+import es.cesguiro.domain.validation.spring_validator.OnUpdate;
 import es.cesguiro.domain.validation.spring_validator.Slug;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Null;
 
 public record AuthorDto(
+        @Null(groups = OnCreate.class, message = "El id debe ser nulo al crear")
+        @NotNull(groups = OnUpdate.class, message = "El id es obligatorio al actualizar")
         Long id,
         @NotNull(message = "El nombre no puede ser nulo")
         String name,
@@ -1,5 +1,7 @@
 package es.cesguiro.domain.service.dto;
 
+import es.cesguiro.domain.validation.spring_validator.OnCreate;
+import es.cesguiro.domain.validation.spring_validator.OnUpdate;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
@@ -7,6 +9,8 @@ import java.time.LocalDate;
 import java.util.List;
 
 public record BookDto(
+        @Null(groups = OnCreate.class, message = "El id debe ser nulo al crear")
+        @NotNull(groups = OnUpdate.class, message = "El id es obligatorio al actualizar")
         Long id,
         //@NotNull
         @NotNull(message = "ISBN es obligatorio")
@@ -28,7 +32,9 @@ public record BookDto(
         @PastOrPresent(message = "La fecha de publicación no puede ser futura")
         LocalDate publicationDate,
         PublisherDto publisher,
-        List<AuthorDto> authors
+        List<AuthorDto> authors,
+        // La que se leyó: update la usa para no pisar cambios ajenos (null = sin comprobación)
+        Long version
 ) {
 
     public BookDto(
@@ -45,6 +51,25 @@ public record BookDto(
             LocalDate publicationDate,
             PublisherDto publisher,
             List<AuthorDto> authors
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, price, cover, publicationDate, publisher, authors, null);
+    }
+
+    public BookDto(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            Double discountPercentage,
+            BigDecimal price,
+            String cover,
+            LocalDate publicationDate,
+            PublisherDto publisher,
+            List<AuthorDto> authors,
+            Long version
     ) {
         this.id = id;
         this.isbn = isbn;
@@ -63,5 +88,6 @@ public record BookDto(
         } else {
             this.authors = List.copyOf(authors);
         }
+        this.version = version;
     }
 }
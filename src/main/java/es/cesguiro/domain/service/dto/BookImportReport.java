@@ -0,0 +1,34 @@
+package es.cesguiro.domain.service.dto;
+
+import java.util.List;
+
+public record BookImportReport(
+        List<BookImportResult> results
+) {
+
+    public BookImportReport {
+        results = List.copyOf(results);
+    }
+
+    public long count(BookImportResult.Status status) {
+        return results.stream()
+                .filter(result -> result.status() == status)
+                .count();
+    }
+
+    public long successCount() {
+        return results.stream()
+                .filter(BookImportResult::isSuccess)
+                .count();
+    }
+
+    public List<BookImportResult> errors() {
+        return results.stream()
+                .filter(result -> !result.isSuccess())
+                .toList();
+    }
+
+    public boolean hasErrors() {
+        return results.stream().anyMatch(result -> !result.isSuccess());
+    }
+}
@@ -0,0 +1,27 @@
+package es.cesguiro.domain.service.dto;
+
+public record BookImportResult(
+        int row,
+        String isbn,
+        Status status,
+        String message
+) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        INVALID,
+        DUPLICATED,
+        ALREADY_EXISTS,
+        NOT_FOUND,
+        FAILED;
+
+        public boolean isSuccess() {
+            return this == CREATED || this == UPDATED;
+        }
+    }
+
+    public boolean isSuccess() {
+        return status.isSuccess();
+    }
+}
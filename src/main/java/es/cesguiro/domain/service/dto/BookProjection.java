@@ -0,0 +1,7 @@
+package es.cesguiro.domain.service.dto;
+
+// Forma de los BookDto de un listado. SUMMARY omite las sinopsis y deja en los autores solo id, nombre y slug
+public enum BookProjection {
+    SUMMARY,
+    DETAIL
+}
@@ -0,0 +1,20 @@
+package es.cesguiro.domain.service.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BookSummaryDto(
+        Long id,
+        String isbn,
+        String titleEs,
+        String titleEn,
+        BigDecimal price,
+        String cover,
+        String publisherName,
+        List<String> authorNames
+) {
+
+    public BookSummaryDto {
+        authorNames = authorNames == null ? List.of() : List.copyOf(authorNames);
+    }
+}
@@ -1,22 +1,34 @@
 package es.cesguiro.domain.service.impl;
 
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.exception.ResourceNotFoundException;
 import es.cesguiro.domain.mapper.AuthorMapper;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.metrics.Timer;
 import es.cesguiro.domain.model.Author;
 import es.cesguiro.domain.repository.AuthorRepository;
 import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.service.dto.AuthorDto;
 import es.cesguiro.domain.service.AuthorService;
+import es.cesguiro.domain.validation.Slugs;
 
 import java.util.List;
 
 public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorRepository authorRepository;
+    private Timer mappingTimer = MetricsRegistry.noop().timer("author.service.mapping");
+    private Timer validationTimer = MetricsRegistry.noop().timer("author.service.validation");
 
     public AuthorServiceImpl(AuthorRepository authorRepository) {
         this.authorRepository = authorRepository;
     }
 
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.mappingTimer = metricsRegistry.timer("author.service.mapping");
+        this.validationTimer = metricsRegistry.timer("author.service.validation");
+    }
+
     @Override
     public List<AuthorDto> getAll() {
         return List.of();
@@ -24,16 +36,29 @@ public class AuthorServiceImpl implements AuthorService {
 
     @Override
     public AuthorDto getBySlug(String slug) {
-        return null;
+        // Un slug mal formado no puede existir: se evita la consulta
+        if (!validationTimer.time(() -> Slugs.isValid(slug))) {
+            throw new ResourceNotFoundException("Author with slug " + slug + " not found");
+        }
+        return authorRepository.findBySlug(slug)
+                .map(authorEntity -> mappingTimer.time(() -> AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(authorEntity)))
+                .orElseThrow(() -> new ResourceNotFoundException("Author with slug " + slug + " not found"));
     }
 
     @Override
     public AuthorDto create(AuthorDto authorDto) {
-        Author author = AuthorMapper.getInstance().fromAuthorDtoToAuthor(authorDto);
-        AuthorEntity authorEntity = AuthorMapper.getInstance().fromAuthorToAuthorEntity(author);
+        if (authorRepository.existsBySlug(authorDto.slug())) {
+            throw new BusinessException("Author with slug " + authorDto.slug() + " already exists");
+        }
+        AuthorEntity authorEntity = mappingTimer.time(() -> {
+            Author author = AuthorMapper.getInstance().fromAuthorDtoToAuthor(authorDto);
+            return AuthorMapper.getInstance().fromAuthorToAuthorEntity(author);
+        });
         AuthorEntity newAuthorEntity = authorRepository.save(authorEntity);
-        Author newAuthor = AuthorMapper.getInstance().fromAuthorEntityToAuthor(newAuthorEntity);
-        return AuthorMapper.getInstance().fromAuthorToAuthorDto(newAuthor);
+        return mappingTimer.time(() -> {
+            Author newAuthor = AuthorMapper.getInstance().fromAuthorEntityToAuthor(newAuthorEntity);
+            return AuthorMapper.getInstance().fromAuthorToAuthorDto(newAuthor);
+        });
     }
 
     @Override
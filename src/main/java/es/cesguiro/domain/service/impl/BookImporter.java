@@ -0,0 +1,248 @@
+package es.cesguiro.domain.service.impl;
+
+import es.cesguiro.domain.exception.ValidationException;
+import es.cesguiro.domain.mapper.BookMapper;
+import es.cesguiro.domain.metrics.Timer;
+import es.cesguiro.domain.repository.AuthorRepository;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.PublisherRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookImportResult;
+import es.cesguiro.domain.service.search.BookSearchIndex;
+import es.cesguiro.domain.validation.spring_validator.DtoValidator;
+import es.cesguiro.domain.validation.spring_validator.OnCreate;
+import jakarta.validation.groups.Default;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Una instancia por importación: guarda los ISBN ya vistos y las editoriales/autores ya resueltos
+class BookImporter {
+
+    private final BookRepository bookRepository;
+    private final PublisherRepository publisherRepository;
+    private final AuthorRepository authorRepository;
+    private final BookSearchIndex searchIndex;
+    private final int batchSize;
+    private final boolean upsert;
+    // Al crear, el id debe venir nulo (OnCreate); al hacer upsert los libros se identifican por ISBN
+    private final Class<?> validationGroup;
+    private final Timer validationTimer;
+
+    private final Set<String> seenIsbns = new HashSet<>();
+    private final Map<Long, PublisherEntity> publishersById = new HashMap<>();
+    private final Map<Long, AuthorEntity> authorsById = new HashMap<>();
+    private final List<BookImportResult> results = new ArrayList<>();
+
+    BookImporter(
+            BookRepository bookRepository,
+            PublisherRepository publisherRepository,
+            AuthorRepository authorRepository,
+            BookSearchIndex searchIndex,
+            int batchSize,
+            boolean upsert,
+            Timer validationTimer
+    ) {
+        this.bookRepository = bookRepository;
+        this.publisherRepository = publisherRepository;
+        this.authorRepository = authorRepository;
+        this.searchIndex = searchIndex;
+        this.batchSize = batchSize;
+        this.upsert = upsert;
+        this.validationGroup = upsert ? Default.class : OnCreate.class;
+        this.validationTimer = validationTimer;
+    }
+
+    BookImportReport importAll(Stream<BookDto> bookDtos) {
+        List<Row> batch = new ArrayList<>(batchSize);
+        Iterator<BookDto> iterator = bookDtos.iterator();
+        int rowNumber = 0;
+        while (iterator.hasNext()) {
+            batch.add(new Row(++rowNumber, iterator.next()));
+            if (batch.size() == batchSize) {
+                importBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch);
+        }
+        results.sort(Comparator.comparingInt(BookImportResult::row));
+        return new BookImportReport(results);
+    }
+
+    private void importBatch(List<Row> batch) {
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (row.bookDto() == null) {
+                reject(row, BookImportResult.Status.INVALID, "Book is required");
+            } else {
+                rows.add(row);
+            }
+        }
+        // Basta con el primer error de cada fila para rechazarla
+        Map<Integer, ValidationException> validationErrors = validationTimer.time(() -> DtoValidator.validateAll(
+                rows.stream().map(Row::bookDto).toList(),
+                DtoValidator.Mode.FAIL_FAST,
+                validationGroup
+        ));
+
+        List<Row> candidates = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ValidationException validationError = validationErrors.get(i);
+            if (validationError != null) {
+                reject(rows.get(i), BookImportResult.Status.INVALID, validationError.getMessage());
+            } else {
+                candidates.add(rows.get(i));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Map<String, BookEntity> existingBooksByIsbn = new HashMap<>();
+        bookRepository.findAllByIsbns(candidates.stream().map(row -> row.bookDto().isbn()).toList())
+                .forEach(bookEntity -> existingBooksByIsbn.put(bookEntity.isbn(), bookEntity));
+        resolveReferences(candidates);
+
+        List<Row> rowsToSave = new ArrayList<>(candidates.size());
+        List<BookEntity> bookEntitiesToSave = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            BookDto bookDto = row.bookDto();
+            // El ISBN se da por visto solo cuando una fila suya llega a guardarse
+            if (seenIsbns.contains(bookDto.isbn())) {
+                reject(row, BookImportResult.Status.DUPLICATED, "ISBN " + bookDto.isbn() + " is repeated in the import");
+                continue;
+            }
+            BookEntity existingBook = existingBooksByIsbn.get(bookDto.isbn());
+            if (existingBook != null && !upsert) {
+                reject(row, BookImportResult.Status.ALREADY_EXISTS, "Book with isbn " + bookDto.isbn() + " already exists");
+                continue;
+            }
+            // En upsert el libro se identifica por ISBN: un id que no es el de ese libro sobrescribiría otro
+            if (bookDto.id() != null && (existingBook == null || !bookDto.id().equals(existingBook.id()))) {
+                reject(row, BookImportResult.Status.INVALID, "Id " + bookDto.id() + " does not match the book with isbn " + bookDto.isbn());
+                continue;
+            }
+            String missingReferences = findMissingReferences(bookDto);
+            if (missingReferences != null) {
+                reject(row, BookImportResult.Status.NOT_FOUND, missingReferences);
+                continue;
+            }
+            seenIsbns.add(bookDto.isbn());
+            BookEntity bookEntity = BookMapper.getInstance().fromBookDtoToBookEntity(
+                    bookDto,
+                    bookDto.publisher() != null ? publishersById.get(bookDto.publisher().id()) : null,
+                    bookDto.authors().stream().map(authorDto -> authorsById.get(authorDto.id())).toList()
+            );
+            rowsToSave.add(new Row(row.number(), bookDto, existingBook != null));
+            bookEntitiesToSave.add(existingBook != null ? bookEntity.withId(existingBook.id()) : bookEntity);
+        }
+        if (bookEntitiesToSave.isEmpty()) {
+            return;
+        }
+
+        List<BookEntity> savedBookEntities;
+        try {
+            savedBookEntities = bookRepository.saveAll(bookEntitiesToSave);
+        } catch (RuntimeException e) {
+            // saveAll no guarda nada si falla: se reintenta fila a fila para que una fila errónea no tumbe el lote
+            saveOneByOne(rowsToSave, bookEntitiesToSave);
+            return;
+        }
+        searchIndex.indexAll(savedBookEntities);
+        rowsToSave.forEach(this::saved);
+    }
+
+    private void saveOneByOne(List<Row> rows, List<BookEntity> bookEntities) {
+        List<BookEntity> savedBookEntities = new ArrayList<>(bookEntities.size());
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                savedBookEntities.add(bookRepository.save(bookEntities.get(i)));
+                saved(rows.get(i));
+            } catch (RuntimeException e) {
+                reject(rows.get(i), BookImportResult.Status.FAILED, e.getMessage());
+            }
+        }
+        searchIndex.indexAll(savedBookEntities);
+    }
+
+    private void saved(Row row) {
+        results.add(new BookImportResult(
+                row.number(),
+                row.bookDto().isbn(),
+                row.existing() ? BookImportResult.Status.UPDATED : BookImportResult.Status.CREATED,
+                null
+        ));
+    }
+
+    private void resolveReferences(List<Row> rows) {
+        Set<Long> publisherIds = new HashSet<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (Row row : rows) {
+            BookDto bookDto = row.bookDto();
+            if (bookDto.publisher() != null && bookDto.publisher().id() != null
+                    && !publishersById.containsKey(bookDto.publisher().id())) {
+                publisherIds.add(bookDto.publisher().id());
+            }
+            for (AuthorDto authorDto : bookDto.authors()) {
+                if (authorDto.id() != null && !authorsById.containsKey(authorDto.id())) {
+                    authorIds.add(authorDto.id());
+                }
+            }
+        }
+        if (!publisherIds.isEmpty()) {
+            publisherRepository.findAllByIds(publisherIds)
+                    .forEach(publisherEntity -> publishersById.put(publisherEntity.id(), publisherEntity));
+        }
+        if (!authorIds.isEmpty()) {
+            authorRepository.findAllByIds(authorIds)
+                    .forEach(authorEntity -> authorsById.put(authorEntity.id(), authorEntity));
+        }
+    }
+
+    private String findMissingReferences(BookDto bookDto) {
+        if (bookDto.publisher() != null && !publishersById.containsKey(bookDto.publisher().id())) {
+            return "Publisher with id " + bookDto.publisher().id() + " does not exist";
+        }
+        Set<Long> missingAuthorIds = new LinkedHashSet<>();
+        for (AuthorDto authorDto : bookDto.authors()) {
+            if (!authorsById.containsKey(authorDto.id())) {
+                missingAuthorIds.add(authorDto.id());
+            }
+        }
+        if (!missingAuthorIds.isEmpty()) {
+            return "Authors with ids " + missingAuthorIds + " do not exist";
+        }
+        return null;
+    }
+
+    private void reject(Row row, BookImportResult.Status status, String message) {
+        results.add(new BookImportResult(
+                row.number(),
+                row.bookDto() != null ? row.bookDto().isbn() : null,
+                status,
+                message
+        ));
+    }
+
+    private record Row(int number, BookDto bookDto, boolean existing) {
+
+        Row(int number, BookDto bookDto) {
+            this(number, bookDto, false);
+        }
+    }
+}
@@ -6,28 +6,55 @@ import es.cesguiro.domain.exception.ValidationException;
 import es.cesguiro.domain.mapper.AuthorMapper;
 import es.cesguiro.domain.mapper.BookMapper;
 import es.cesguiro.domain.mapper.PublisherMapper;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.metrics.Timer;
 import es.cesguiro.domain.model.Book;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.FacetedPage;
 import es.cesguiro.domain.model.Page;
 import es.cesguiro.domain.repository.AuthorRepository;
 import es.cesguiro.domain.repository.PublisherRepository;
 import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
 import es.cesguiro.domain.repository.entity.PublisherEntity;
 import es.cesguiro.domain.service.dto.AuthorDto;
 import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
 import es.cesguiro.domain.repository.BookRepository;
 import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.search.BookSearchIndex;
+import es.cesguiro.domain.service.search.SearchHits;
+import es.cesguiro.domain.validation.Slugs;
 import jakarta.transaction.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class BookServiceImpl implements BookService {
 
+    public static final int DEFAULT_IMPORT_BATCH_SIZE = 500;
+
     private final BookRepository bookRepository;
     private final PublisherRepository publisherRepository;
     private final AuthorRepository authorRepository;
+    private int importBatchSize = DEFAULT_IMPORT_BATCH_SIZE;
+    private ParallelLookupOptions parallelLookupOptions;
+    // Se construye en la primera búsqueda y después se mantiene con cada escritura; antes, las escrituras no lo tocan
+    private final BookSearchIndex searchIndex = BookSearchIndex.deferred();
+    private Timer mappingTimer = MetricsRegistry.noop().timer("book.service.mapping");
+    private Timer validationTimer = MetricsRegistry.noop().timer("book.service.validation");
 
     public BookServiceImpl(BookRepository bookRepository, PublisherRepository publisherRepository, AuthorRepository authorRepository) {
         this.bookRepository = bookRepository;
@@ -35,15 +62,29 @@ public class BookServiceImpl implements BookService {
         this.authorRepository = authorRepository;
     }
 
+    public void setImportBatchSize(int importBatchSize) {
+        if (importBatchSize <= 0) {
+            throw new IllegalArgumentException("Import batch size must be greater than zero");
+        }
+        this.importBatchSize = importBatchSize;
+    }
+
+    // null desactiva las búsquedas en paralelo
+    public void setParallelLookupOptions(ParallelLookupOptions parallelLookupOptions) {
+        this.parallelLookupOptions = parallelLookupOptions;
+    }
+
+    // Mapeo y validación se miden aparte; el tiempo de cada método lo mide MeteredBookService
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.mappingTimer = metricsRegistry.timer("book.service.mapping");
+        this.validationTimer = metricsRegistry.timer("book.service.validation");
+    }
+
     @Override
     public Page<BookDto> getAll(int page, int size) {
             Page<BookEntity> bookEntityPage =  bookRepository
                     .findAll(page, size);
-            List<BookDto> itemsDto = bookEntityPage.data()
-                    .stream()
-                    .map(BookMapper.getInstance()::fromBookEntityToBook)
-                    .map(BookMapper.getInstance()::fromBookToBookDto)
-                    .toList();
+            List<BookDto> itemsDto = toDtos(bookEntityPage.data());
             return new Page<>(
                     itemsDto,
                     bookEntityPage.pageNumber(),
@@ -52,20 +93,125 @@ public class BookServiceImpl implements BookService {
             );
     }
 
+    @Override
+    public Page<BookDto> getAll(int page, int size, boolean countTotal) {
+        if (countTotal) {
+            return getAll(page, size);
+        }
+        Page<BookEntity> bookEntityPage = bookRepository.findAll(page, size, false);
+        return Page.withoutTotal(
+                toDtos(bookEntityPage.data()),
+                bookEntityPage.pageNumber(),
+                bookEntityPage.pageSize()
+        );
+    }
+
+    @Override
+    public Page<BookDto> getAll(int page, int size, BookProjection projection) {
+        Page<BookEntity> bookEntityPage = bookRepository.findAll(page, size);
+        return new Page<>(
+                mappingTimer.time(() -> BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntityPage.data(), projection)),
+                bookEntityPage.pageNumber(),
+                bookEntityPage.pageSize(),
+                bookEntityPage.totalElements()
+        );
+    }
+
+    @Override
+    public Page<BookSummaryDto> getSummaries(int page, int size) {
+        Page<BookSummaryEntity> summaryPage = bookRepository.findAllSummaries(page, size);
+        return new Page<>(
+                mappingTimer.time(() -> BookMapper.getInstance().fromBookSummaryEntitiesToBookSummaryDtos(summaryPage.data())),
+                summaryPage.pageNumber(),
+                summaryPage.pageSize(),
+                summaryPage.totalElements()
+        );
+    }
+
+    // Un slug mal formado no puede coincidir con ninguna editorial ni autor: no se consulta el repositorio
+    @Override
+    public Page<BookDto> getAll(BookQuery query, int page, int size) {
+        if (!hasValidSlugs(query)) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        Page<BookEntity> bookEntityPage = bookRepository.findAll(query, page, size);
+        return new Page<>(
+                toDtos(bookEntityPage.data()),
+                bookEntityPage.pageNumber(),
+                bookEntityPage.pageSize(),
+                bookEntityPage.totalElements()
+        );
+    }
+
+    @Override
+    public FacetedPage<BookDto> getAllWithFacets(BookQuery query, int page, int size) {
+        if (!hasValidSlugs(query)) {
+            return new FacetedPage<>(new Page<>(List.of(), page, size, 0), BookFacets.empty());
+        }
+        return new FacetedPage<>(getAll(query, page, size), bookRepository.countFacets(query));
+    }
+
+    @Override
+    public CursorPage<BookDto> getAfter(String cursor, int size) {
+        CursorPage<BookEntity> bookEntityPage = bookRepository.findAfter(cursor, size);
+        return new CursorPage<>(
+                toDtos(bookEntityPage.data()),
+                bookEntityPage.pageSize(),
+                bookEntityPage.nextCursor()
+        );
+    }
+
+    // Mapeo perezoso, medido libro a libro: al cerrar el Stream devuelto se cierra también el del repositorio
+    @Override
+    public Stream<BookDto> streamAll() {
+        return bookRepository.streamAll()
+                .map(this::toDto);
+    }
+
+    @Override
+    public Page<BookDto> search(String query, int page, int size) {
+        SearchHits hits = searchIndex().search(query, page, size);
+        if (hits.isbns().isEmpty()) {
+            return new Page<>(List.of(), page, size, hits.total());
+        }
+        Map<String, BookEntity> bookEntitiesByIsbn = new HashMap<>();
+        bookRepository.findAllByIsbns(hits.isbns())
+                .forEach(bookEntity -> bookEntitiesByIsbn.put(bookEntity.isbn(), bookEntity));
+        List<BookEntity> rankedBookEntities = hits.isbns().stream()
+                .map(bookEntitiesByIsbn::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new Page<>(
+                toDtos(rankedBookEntities),
+                page,
+                size,
+                hits.total()
+        );
+    }
+
+    private BookSearchIndex searchIndex() {
+        if (!searchIndex.isBuilt()) {
+            synchronized (searchIndex) {
+                if (!searchIndex.isBuilt()) {
+                    searchIndex.rebuild(bookRepository::streamAll);
+                }
+            }
+        }
+        return searchIndex;
+    }
+
     @Override
     public BookDto getByIsbn(String isbn) {
         return bookRepository
                 .findByIsbn(isbn)
-                .map(BookMapper.getInstance()::fromBookEntityToBook)
-                .map(BookMapper.getInstance()::fromBookToBookDto)
+                .map(this::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException("Book with isbn " + isbn + " not found"));
     }
 
     @Override
     public Optional<BookDto> findByIsbn(String isbn) {
         return bookRepository.findByIsbn(isbn)
-                .map(BookMapper.getInstance()::fromBookEntityToBook)
-                .map(BookMapper.getInstance()::fromBookToBookDto);
+                .map(this::toDto);
     }
 
 
@@ -73,26 +219,27 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional
     public BookDto create(BookDto bookDto) {
-        if (findByIsbn(bookDto.isbn()).isPresent()) {
+        if (bookRepository.existsByIsbn(bookDto.isbn())) {
             throw new BusinessException("Book with isbn " + bookDto.isbn() + " already exists");
         }
 
         BookEntity newBookEntity = buildBookEntityFromBookDto(bookDto);
+        BookEntity savedBookEntity = bookRepository.save(newBookEntity);
+        searchIndex.index(savedBookEntity);
 
-        return BookMapper.getInstance().fromBookToBookDto(
-                BookMapper.getInstance().fromBookEntityToBook(
-                        bookRepository.save(newBookEntity)
-                )
-        );
+        return mappingTimer.time(() -> BookMapper.getInstance().fromBookToBookDto(
+                BookMapper.getInstance().fromBookEntityToBook(savedBookEntity)
+        ));
     }
 
 
     @Override
     @Transactional
     public BookDto update(BookDto bookDto) {
-        bookRepository.findById(bookDto.id()).orElseThrow(
-                () -> new ResourceNotFoundException("Book with id " + bookDto.id() + " not found")
-        );
+        if (!bookRepository.existsById(bookDto.id())) {
+            throw new ResourceNotFoundException("Book with id " + bookDto.id() + " not found");
+        }
+        // El conflicto de versión lo detecta el save del repositorio, de forma atómica
 
         // Comprobar duplicidad de ISBN (salvo el propio libro)
         bookRepository.findByIsbn(bookDto.isbn())
@@ -102,47 +249,113 @@ public class BookServiceImpl implements BookService {
                 });
 
         BookEntity newBookEntity = buildBookEntityFromBookDto(bookDto);
+        BookEntity savedBookEntity = bookRepository.save(newBookEntity);
+        searchIndex.index(savedBookEntity);
 
-        return BookMapper.getInstance().fromBookToBookDto(
-                BookMapper.getInstance().fromBookEntityToBook(
-                        bookRepository.save(newBookEntity)
-                )
-        );
+        return mappingTimer.time(() -> BookMapper.getInstance().fromBookToBookDto(
+                BookMapper.getInstance().fromBookEntityToBook(savedBookEntity)
+        ));
     }
 
 
     private BookEntity buildBookEntityFromBookDto(BookDto bookDto) {
+        if (parallelLookupOptions != null) {
+            return buildBookEntityInParallel(bookDto);
+        }
         PublisherEntity publisherEntity = (bookDto.publisher() != null)
                 ? publisherRepository.findById(bookDto.publisher().id())
-                    .orElseThrow(() -> new ResourceNotFoundException("Publisher with id " + bookDto.publisher().id() + " does not exist"))
+                    .orElseThrow(() -> publisherNotFound(bookDto))
+                : null;
+
+        List<AuthorEntity> authorEntities = (bookDto.authors() != null && !bookDto.authors().isEmpty())
+                ? orderAuthors(bookDto.authors(), authorRepository.findAllByIds(authorIds(bookDto.authors())))
+                : List.of();
+
+        return BookMapper.getInstance().fromBookDtoToBookEntity(bookDto, publisherEntity, authorEntities);
+    }
+
+    // Editorial y autores se buscan a la vez en hilos virtuales: la latencia es la de la consulta más lenta
+    private BookEntity buildBookEntityInParallel(BookDto bookDto) {
+        ParallelReferenceResolver.References references = new ParallelReferenceResolver(
+                publisherRepository,
+                authorRepository,
+                parallelLookupOptions
+        ).resolve(
+                bookDto.publisher() != null ? bookDto.publisher().id() : null,
+                bookDto.authors() != null ? authorIds(bookDto.authors()) : Set.of()
+        );
+
+        PublisherEntity publisherEntity = (bookDto.publisher() != null)
+                ? references.publisher().orElseThrow(() -> publisherNotFound(bookDto))
                 : null;
 
-        List<AuthorEntity> authorEntities = (bookDto.authors() != null)
-                ? bookDto.authors().stream()
-                    .map(authorDto -> authorRepository.findById(authorDto.id())
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Author with id " + authorDto.id() + " does not exist")))
-                    .toList()
+        List<AuthorEntity> authorEntities = (bookDto.authors() != null && !bookDto.authors().isEmpty())
+                ? orderAuthors(bookDto.authors(), references.authors())
                 : List.of();
 
-        Book newBook = BookMapper.getInstance().fromBookDtoToBook(bookDto);
-        newBook.setPublisher(PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity));
-        newBook.setAuthors(authorEntities.stream()
-                .map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor)
-                .toList());
+        return BookMapper.getInstance().fromBookDtoToBookEntity(bookDto, publisherEntity, authorEntities);
+    }
+
+    private BookDto toDto(BookEntity bookEntity) {
+        return mappingTimer.time(() -> BookMapper.getInstance().fromBookEntityToBookDto(bookEntity));
+    }
+
+    private List<BookDto> toDtos(List<BookEntity> bookEntities) {
+        return mappingTimer.time(() -> BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities));
+    }
+
+    private boolean hasValidSlugs(BookQuery query) {
+        return validationTimer.time(() -> isValidSlugOrNull(query.publisherSlug()) && isValidSlugOrNull(query.authorSlug()));
+    }
+
+    private static boolean isValidSlugOrNull(String slug) {
+        return slug == null || Slugs.isValid(slug);
+    }
+
+    private static ResourceNotFoundException publisherNotFound(BookDto bookDto) {
+        return new ResourceNotFoundException("Publisher with id " + bookDto.publisher().id() + " does not exist");
+    }
+
+    private static Set<Long> authorIds(List<AuthorDto> authorDtos) {
+        Set<Long> authorIds = new LinkedHashSet<>();
+        authorDtos.forEach(authorDto -> authorIds.add(authorDto.id()));
+        return authorIds;
+    }
+
+    private static List<AuthorEntity> orderAuthors(List<AuthorDto> authorDtos, List<AuthorEntity> foundAuthors) {
+        Map<Long, AuthorEntity> authorEntitiesById = new HashMap<>();
+        foundAuthors.forEach(authorEntity -> authorEntitiesById.put(authorEntity.id(), authorEntity));
 
-        return BookMapper.getInstance().fromBookToBookEntity(newBook);
+        List<Long> missingIds = authorIds(authorDtos).stream()
+                .filter(id -> !authorEntitiesById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Authors with ids " + missingIds + " do not exist");
+        }
+
+        return authorDtos.stream()
+                .map(authorDto -> authorEntitiesById.get(authorDto.id()))
+                .toList();
     }
 
     @Override
     @Transactional
     public void deleteByIsbn(String isbn) {
-        Optional<BookDto> existingBookDto = findByIsbn(isbn);
-
-        if (existingBookDto.isEmpty()) {
+        if (bookRepository.deleteByIsbn(isbn) == 0) {
             throw new BusinessException("Book with isbn " + isbn + " does not exist");
         }
+        searchIndex.removeByIsbn(isbn);
+    }
 
-        bookRepository.deleteByIsbn(isbn);
+    @Override
+    public BookImportReport createAll(Stream<BookDto> bookDtos) {
+        return new BookImporter(bookRepository, publisherRepository, authorRepository, searchIndex, importBatchSize, false, validationTimer)
+                .importAll(bookDtos);
+    }
+
+    @Override
+    public BookImportReport upsertAll(Stream<BookDto> bookDtos) {
+        return new BookImporter(bookRepository, publisherRepository, authorRepository, searchIndex, importBatchSize, true, validationTimer)
+                .importAll(bookDtos);
     }
 }
@@ -0,0 +1,26 @@
+package es.cesguiro.domain.service.impl;
+
+import java.time.Duration;
+
+public record ParallelLookupOptions(
+        int maxConcurrency,
+        Duration timeout,
+        int authorsPerLookup
+) {
+
+    public ParallelLookupOptions {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be greater than zero");
+        }
+        if (authorsPerLookup <= 0) {
+            throw new IllegalArgumentException("Authors per lookup must be greater than zero");
+        }
+    }
+
+    public static ParallelLookupOptions defaults() {
+        return new ParallelLookupOptions(8, Duration.ofSeconds(2), 10);
+    }
+}
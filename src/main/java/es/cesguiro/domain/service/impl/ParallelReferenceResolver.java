@@ -0,0 +1,107 @@
+package es.cesguiro.domain.service.impl;
+
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.repository.AuthorRepository;
+import es.cesguiro.domain.repository.PublisherRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class ParallelReferenceResolver {
+
+    private final PublisherRepository publisherRepository;
+    private final AuthorRepository authorRepository;
+    private final ParallelLookupOptions options;
+
+    ParallelReferenceResolver(PublisherRepository publisherRepository, AuthorRepository authorRepository, ParallelLookupOptions options) {
+        this.publisherRepository = publisherRepository;
+        this.authorRepository = authorRepository;
+        this.options = options;
+    }
+
+    References resolve(Long publisherId, Set<Long> authorIds) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Semaphore permits = new Semaphore(options.maxConcurrency());
+        try {
+            Future<Optional<PublisherEntity>> publisher = (publisherId != null)
+                    ? executor.submit(limited(permits, () -> publisherRepository.findById(publisherId)))
+                    : null;
+
+            List<Future<List<AuthorEntity>>> authorLookups = new ArrayList<>();
+            for (List<Long> chunk : chunks(authorIds)) {
+                authorLookups.add(executor.submit(limited(permits, () -> authorRepository.findAllByIds(chunk))));
+            }
+
+            long deadline = System.nanoTime() + options.timeout().toNanos();
+            List<AuthorEntity> authors = new ArrayList<>(authorIds.size());
+            for (Future<List<AuthorEntity>> authorLookup : authorLookups) {
+                authors.addAll(await(authorLookup, deadline));
+            }
+            return new References(
+                    publisher != null ? await(publisher, deadline) : Optional.empty(),
+                    authors
+            );
+        } finally {
+            // Si algo falla o vence el plazo, se interrumpen las búsquedas pendientes
+            executor.shutdownNow();
+        }
+    }
+
+    private List<List<Long>> chunks(Set<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(options.authorsPerLookup());
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == options.authorsPerLookup()) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(options.authorsPerLookup());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static <T> Callable<T> limited(Semaphore permits, Callable<T> lookup) {
+        return () -> {
+            permits.acquire();
+            try {
+                return lookup.call();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private static <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException("Timed out resolving book references");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Interrupted while resolving book references");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException("Error resolving book references: " + e.getCause().getMessage());
+        }
+    }
+
+    record References(Optional<PublisherEntity> publisher, List<AuthorEntity> authors) {
+    }
+}
@@ -2,21 +2,31 @@ package es.cesguiro.domain.service.impl;
 
 import es.cesguiro.domain.exception.ResourceNotFoundException;
 import es.cesguiro.domain.mapper.PublisherMapper;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.metrics.Timer;
 import es.cesguiro.domain.repository.PublisherRepository;
 import es.cesguiro.domain.repository.entity.PublisherEntity;
 import es.cesguiro.domain.service.dto.PublisherDto;
 import es.cesguiro.domain.service.PublisherService;
+import es.cesguiro.domain.validation.Slugs;
 
 import java.util.List;
 
 public class PublisherServiceImpl implements PublisherService {
 
     private final PublisherRepository publisherRepository;
+    private Timer mappingTimer = MetricsRegistry.noop().timer("publisher.service.mapping");
+    private Timer validationTimer = MetricsRegistry.noop().timer("publisher.service.validation");
 
     public PublisherServiceImpl(PublisherRepository publisherRepository) {
         this.publisherRepository = publisherRepository;
     }
 
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.mappingTimer = metricsRegistry.timer("publisher.service.mapping");
+        this.validationTimer = metricsRegistry.timer("publisher.service.validation");
+    }
+
     @Override
     public List<PublisherDto> getAll() {
         return null;
@@ -24,9 +34,14 @@ public class PublisherServiceImpl implements PublisherService {
 
     @Override
     public PublisherDto getBySlug(String slug) {
+        // Un slug mal formado no puede existir: se evita la consulta
+        if (!validationTimer.time(() -> Slugs.isValid(slug))) {
+            throw new ResourceNotFoundException("Publisher with slug " + slug + " not found");
+        }
         return publisherRepository.findBySlug(slug)
-                .map(PublisherMapper.getInstance()::fromPublisherEntityToPublisher)
-                .map(PublisherMapper.getInstance()::fromPublisherToPublisherDto)
+                .map(publisherEntity -> mappingTimer.time(() -> PublisherMapper.getInstance().fromPublisherToPublisherDto(
+                        PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity)
+                )))
                 .orElseThrow(() -> new ResourceNotFoundException("Publisher with slug " + slug + " not found"));
     }
 
@@ -37,16 +52,17 @@ public class PublisherServiceImpl implements PublisherService {
 
     @Override
     public PublisherDto update(PublisherDto publisherDto) {
-        PublisherEntity existingPublisher = publisherRepository.findById(publisherDto.id())
-                .orElseThrow(() -> new ResourceNotFoundException("Publisher with id " + publisherDto.id() + " not found"));
-        PublisherEntity updatedPublisher = publisherRepository.save(
+        if (!publisherRepository.existsById(publisherDto.id())) {
+            throw new ResourceNotFoundException("Publisher with id " + publisherDto.id() + " not found");
+        }
+        PublisherEntity updatedPublisher = publisherRepository.save(mappingTimer.time(() ->
                 PublisherMapper.getInstance().fromPublisherToPublisherEntity(
                     PublisherMapper.getInstance().fromPublisherDtoToPublisher(publisherDto)
                 )
-        );
-        return PublisherMapper.getInstance().fromPublisherToPublisherDto(
+        ));
+        return mappingTimer.time(() -> PublisherMapper.getInstance().fromPublisherToPublisherDto(
                 PublisherMapper.getInstance().fromPublisherEntityToPublisher(updatedPublisher)
-        );
+        ));
     }
 
     @Override
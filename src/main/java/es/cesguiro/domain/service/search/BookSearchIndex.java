@@ -0,0 +1,390 @@
+package es.cesguiro.domain.service.search;
+
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Índice invertido en memoria sobre títulos, sinopsis y autores, con ranking BM25.
+// Los términos de cada campo pesan según el campo: título > autor > sinopsis.
+// Cada libro tiene un ordinal denso y las listas de ordinales se mantienen ordenadas para puntuar fusionándolas
+public class BookSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float AUTHOR_WEIGHT = 2f;
+    private static final float SYNOPSIS_WEIGHT = 1f;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final Map<String, Long> idsByIsbn = new HashMap<>();
+    private Document[] documents = new Document[16];
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int nextOrdinal;
+    private double totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Se comprueba con el lock de escritura: hasta el primer rebuild las escrituras no se indexan, el rebuild ya las leerá
+    private volatile boolean built;
+
+    public BookSearchIndex() {
+        this(true);
+    }
+
+    private BookSearchIndex(boolean built) {
+        this.built = built;
+    }
+
+    // Índice que se construye con el primer rebuild; hasta entonces index/indexAll/removeByIsbn no hacen nada
+    public static BookSearchIndex deferred() {
+        return new BookSearchIndex(false);
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    // La lectura de los libros se abre con el lock adquirido: un index/removeByIsbn concurrente o bien termina
+    // antes (y la lectura ya incluye ese libro) o bien espera al final del rebuild, pero nunca se pierde
+    public void rebuild(Supplier<Stream<BookEntity>> books) {
+        lock.writeLock().lock();
+        try (Stream<BookEntity> bookStream = books.get()) {
+            postings.clear();
+            ordinalsById.clear();
+            idsByIsbn.clear();
+            documents = new Document[16];
+            freeOrdinals.clear();
+            nextOrdinal = 0;
+            totalLength = 0;
+            bookStream.forEach(this::add);
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Sustituye la versión anterior del libro, si la había. Las escrituras concurrentes pueden llegar
+    // desordenadas: un libro con versión menor que la indexada se ignora
+    public void index(BookEntity book) {
+        if (book == null || book.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!built || isStale(book)) {
+                return;
+            }
+            remove(book.id());
+            add(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAll(Collection<BookEntity> books) {
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                return;
+            }
+            for (BookEntity book : books) {
+                if (book != null && book.id() != null && !isStale(book)) {
+                    remove(book.id());
+                    add(book);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByIsbn(String isbn) {
+        lock.writeLock().lock();
+        try {
+            Long id = built ? idsByIsbn.get(isbn) : null;
+            if (id != null) {
+                remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchHits search(String query, int page, int size) {
+        if (page < 1 || size <= 0) {
+            throw new IllegalArgumentException("Page must be greater than zero and size must be positive");
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (TextAnalyzer analyzer : TextAnalyzer.values()) {
+            terms.addAll(analyzer.analyze(query));
+        }
+        if (terms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> matching = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null) {
+                    matching.add(termPostings);
+                }
+            }
+            long limit = Math.min((long) page * size, Integer.MAX_VALUE);
+            TopHits topHits = new TopHits((int) Math.min(limit, ordinalsById.size()));
+            long total = score(matching, topHits);
+
+            int[] ranked = topHits.sorted();
+            int from = (int) Math.min((long) (page - 1) * size, ranked.length);
+            List<String> isbns = new ArrayList<>(ranked.length - from);
+            for (int i = from; i < ranked.length; i++) {
+                isbns.add(documents[ranked[i]].isbn());
+            }
+            return new SearchHits(isbns, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Recorre a la vez las listas de todos los términos, documento a documento, sin mapas intermedios
+    private long score(List<Postings> matching, TopHits topHits) {
+        int documentCount = ordinalsById.size();
+        double averageLength = documentCount == 0 ? 1 : totalLength / documentCount;
+        double[] idfs = new double[matching.size()];
+        int[] cursors = new int[matching.size()];
+        for (int t = 0; t < idfs.length; t++) {
+            int frequency = matching.get(t).size;
+            idfs[t] = Math.log(1 + (documentCount - frequency + 0.5) / (frequency + 0.5));
+        }
+
+        long total = 0;
+        while (true) {
+            int ordinal = Integer.MAX_VALUE;
+            for (int t = 0; t < cursors.length; t++) {
+                Postings termPostings = matching.get(t);
+                if (cursors[t] < termPostings.size) {
+                    ordinal = Math.min(ordinal, termPostings.ordinals[cursors[t]]);
+                }
+            }
+            if (ordinal == Integer.MAX_VALUE) {
+                return total;
+            }
+            double norm = K1 * (1 - B + B * documents[ordinal].length() / averageLength);
+            double score = 0;
+            for (int t = 0; t < cursors.length; t++) {
+                Postings termPostings = matching.get(t);
+                if (cursors[t] < termPostings.size && termPostings.ordinals[cursors[t]] == ordinal) {
+                    double frequency = termPostings.frequencies[cursors[t]++];
+                    score += idfs[t] * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            topHits.offer(ordinal, score);
+            total++;
+        }
+    }
+
+    // Llamar con el cerrojo de escritura adquirido
+    private void add(BookEntity book) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        length += addTerms(frequencies, TextAnalyzer.SPANISH.analyze(book.titleEs()), TITLE_WEIGHT);
+        length += addTerms(frequencies, TextAnalyzer.ENGLISH.analyze(book.titleEn()), TITLE_WEIGHT);
+        length += addTerms(frequencies, TextAnalyzer.SPANISH.analyze(book.synopsisEs()), SYNOPSIS_WEIGHT);
+        length += addTerms(frequencies, TextAnalyzer.ENGLISH.analyze(book.synopsisEn()), SYNOPSIS_WEIGHT);
+        if (book.authors() != null) {
+            for (AuthorEntity author : book.authors()) {
+                length += addTerms(frequencies, TextAnalyzer.NAME.analyze(author.name()), AUTHOR_WEIGHT);
+            }
+        }
+
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, frequency));
+        documents[ordinal] = new Document(book.id(), book.isbn(), book.version(), frequencies.keySet().toArray(new String[0]), length);
+        ordinalsById.put(book.id(), ordinal);
+        if (book.isbn() != null) {
+            idsByIsbn.put(book.isbn(), book.id());
+        }
+        totalLength += length;
+    }
+
+    // Llamar con el cerrojo de escritura adquirido
+    private boolean isStale(BookEntity book) {
+        Integer ordinal = ordinalsById.get(book.id());
+        if (ordinal == null || book.version() == null) {
+            return false;
+        }
+        Long indexedVersion = documents[ordinal].version();
+        return indexedVersion != null && indexedVersion > book.version();
+    }
+
+    // Llamar con el cerrojo de escritura adquirido
+    private void remove(Long id) {
+        Integer ordinal = ordinalsById.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        Document document = documents[ordinal];
+        for (String term : document.terms()) {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(ordinal);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+        idsByIsbn.remove(document.isbn(), id);
+        documents[ordinal] = null;
+        freeOrdinals.push(ordinal);
+        totalLength -= document.length();
+    }
+
+    private static float addTerms(Map<String, Float> frequencies, List<String> terms, float weight) {
+        for (String term : terms) {
+            frequencies.merge(term, weight, Float::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private record Document(long id, String isbn, Long version, String[] terms, float length) {
+    }
+
+    // Ordinales de los documentos que contienen un término, en orden creciente, con su frecuencia ponderada
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            // En una reconstrucción los ordinales llegan en orden y se añaden al final
+            int position = size == 0 || ordinals[size - 1] < ordinal ? size : -Arrays.binarySearch(ordinals, 0, size, ordinal) - 1;
+            System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+            ordinals[position] = ordinal;
+            frequencies[position] = frequency;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+            size--;
+        }
+    }
+
+    // Montículo de mínimos acotado con los mejores resultados; a igual puntuación gana el id menor
+    private final class TopHits {
+
+        private final int[] ordinals;
+        private final double[] scores;
+        private int size;
+
+        TopHits(int capacity) {
+            ordinals = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        void offer(int ordinal, double score) {
+            if (ordinals.length == 0) {
+                return;
+            }
+            if (size < ordinals.length) {
+                ordinals[size] = ordinal;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(0, ordinal, score)) {
+                ordinals[0] = ordinal;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int[] sorted() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = ordinals[0];
+                ordinals[0] = ordinals[--size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        // true si el elemento i del montículo es peor que (ordinal, score)
+        private boolean worse(int i, int ordinal, double score) {
+            if (scores[i] != score) {
+                return scores[i] < score;
+            }
+            return documents[ordinals[i]].id() > documents[ordinal].id();
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!worse(i, ordinals[parent], scores[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (worse(child, ordinals[worst], scores[worst])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ordinal = ordinals[a];
+            ordinals[a] = ordinals[b];
+            ordinals[b] = ordinal;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
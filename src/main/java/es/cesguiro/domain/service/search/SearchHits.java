@@ -0,0 +1,7 @@
+package es.cesguiro.domain.service.search;
+
+import java.util.List;
+
+// ISBN de la página pedida, ordenados por relevancia, y número total de coincidencias
+public record SearchHits(List<String> isbns, long total) {
+}
@@ -0,0 +1,110 @@
+package es.cesguiro.domain.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Tokeniza, pasa a minúsculas, quita tildes y palabras vacías y aplica un stemming ligero por idioma
+enum TextAnalyzer {
+
+    SPANISH(Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "para", "por",
+            "que", "se", "su", "sus", "un", "una", "unos", "unas", "y", "o", "e", "u"
+    )) {
+        // Quita plurales y género: "aviones" -> "avion", "principitos" -> "principit", "luces" -> "luz"
+        @Override
+        String stem(String token) {
+            String stem = token;
+            if (stem.length() > 4 && stem.endsWith("ces")) {
+                stem = stem.substring(0, stem.length() - 3) + "z";
+            } else if (stem.length() > 4 && (stem.endsWith("os") || stem.endsWith("as") || stem.endsWith("es"))) {
+                stem = stem.substring(0, stem.length() - 2);
+            } else if (stem.length() > 3 && stem.endsWith("s")) {
+                stem = stem.substring(0, stem.length() - 1);
+            }
+            if (stem.length() > 3 && (stem.endsWith("o") || stem.endsWith("a") || stem.endsWith("e"))) {
+                stem = stem.substring(0, stem.length() - 1);
+            }
+            return stem;
+        }
+    },
+
+    ENGLISH(Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+            "or", "the", "to", "was", "with"
+    )) {
+        // "stories" -> "story", "boxes" -> "box", "princes" -> "prince", "flying" -> "fly"
+        @Override
+        String stem(String token) {
+            int length = token.length();
+            if (length > 4 && token.endsWith("ies")) {
+                return token.substring(0, length - 3) + "y";
+            }
+            if (length > 4 && (token.endsWith("ses") || token.endsWith("xes") || token.endsWith("ches") || token.endsWith("shes"))) {
+                return token.substring(0, length - 2);
+            }
+            if (length > 3 && token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")) {
+                return token.substring(0, length - 1);
+            }
+            if (length > 5 && token.endsWith("ing")) {
+                return token.substring(0, length - 3);
+            }
+            if (length > 4 && token.endsWith("ed")) {
+                return token.substring(0, length - 2);
+            }
+            return token;
+        }
+    },
+
+    // Nombres propios: sin stemming y descartando solo partículas
+    NAME(Set.of("de", "del", "la", "las", "los", "y", "e", "da", "van", "von", "the", "of", "and")) {
+        @Override
+        String stem(String token) {
+            return token;
+        }
+    };
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Set<String> stopWords;
+
+    TextAnalyzer(Set<String> stopWords) {
+        this.stopWords = stopWords;
+    }
+
+    abstract String stem(String token);
+
+    List<String> analyze(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                String token = fold(text.substring(start, i));
+                if (!stopWords.contains(token)) {
+                    terms.add(stem(token));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static String fold(String token) {
+        String lowerCase = token.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (lowerCase.charAt(i) >= 0x80) {
+                return MARKS.matcher(Normalizer.normalize(lowerCase, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lowerCase;
+    }
+}
@@ -0,0 +1,86 @@
+package es.cesguiro.domain.validation;
+
+import java.text.Normalizer;
+
+// Equivalente a ^[a-z0-9]+(?:-[a-z0-9]+)*$ sin expresiones regulares ni reservas de memoria
+public final class Slugs {
+
+    private static final char SKIP = 0;
+    private static final char SEPARATOR = ' ';
+    private static final char[] FOLDED = new char[0x180];
+
+    // Tabla de letras latinas sin tilde; solo se usa Normalizer fuera de ella
+    static {
+        for (char c = 0; c < FOLDED.length; c++) {
+            FOLDED[c] = foldWithNormalizer(c);
+        }
+    }
+
+    private Slugs() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        boolean afterDash = true;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                afterDash = false;
+            } else if (c == '-' && !afterDash) {
+                afterDash = true;
+            } else {
+                return false;
+            }
+        }
+        return !afterDash;
+    }
+
+    // "Gabriel García Márquez" -> "gabriel-garcia-marquez", "Año Ñu" -> "ano-nu"
+    public static String slugify(String name) {
+        if (name == null) {
+            return null;
+        }
+        if (isValid(name)) {
+            return name;
+        }
+        StringBuilder slug = new StringBuilder(name.length());
+        boolean pendingDash = false;
+        for (int i = 0, length = name.length(); i < length; i++) {
+            char c = fold(name.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (pendingDash && !slug.isEmpty()) {
+                    slug.append('-');
+                }
+                slug.append(c);
+                pendingDash = false;
+            } else {
+                pendingDash = true;
+            }
+        }
+        return slug.toString();
+    }
+
+    private static char fold(char c) {
+        return c < FOLDED.length ? FOLDED[c] : foldWithNormalizer(c);
+    }
+
+    private static char foldWithNormalizer(char c) {
+        // Tildes, puntos y apóstrofos se eliminan sin separar: "C.S. Lewis" -> "cs-lewis"
+        if (Character.getType(c) == Character.NON_SPACING_MARK || c == '.' || c == '\'' || c == '\u2019') {
+            return SKIP;
+        }
+        char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+        if (base >= 'A' && base <= 'Z') {
+            return (char) (base + ('a' - 'A'));
+        }
+        if ((base >= 'a' && base <= 'z') || (base >= '0' && base <= '9')) {
+            return base;
+        }
+        return SEPARATOR;
+    }
+}
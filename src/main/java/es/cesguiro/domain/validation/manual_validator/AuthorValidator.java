@@ -0,0 +1,20 @@
+package es.cesguiro.domain.validation.manual_validator;
+
+import es.cesguiro.domain.service.dto.AuthorDto;
+
+import static es.cesguiro.domain.validation.manual_validator.Constraints.slug;
+
+public class AuthorValidator extends Validator<AuthorDto> {
+
+    private static final AuthorValidator INSTANCE = new AuthorValidator();
+
+    private AuthorValidator() {
+        super(Validator.<AuthorDto>rules()
+                .notNull("name", AuthorDto::name, "El nombre no puede ser nulo")
+                .require("slug", AuthorDto::slug, slug(), "Valor inválido, debe ser URL-friendly (minúsculas, números y guiones)"));
+    }
+
+    public static AuthorValidator getInstance() {
+        return INSTANCE;
+    }
+}
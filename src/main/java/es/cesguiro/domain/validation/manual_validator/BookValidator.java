@@ -1,23 +1,34 @@
 package es.cesguiro.domain.validation.manual_validator;
 
-import es.cesguiro.domain.exception.ValidationException;
 import es.cesguiro.domain.service.dto.BookDto;
 
-import java.lang.reflect.Field;
-import java.util.List;
+import java.math.BigDecimal;
+import java.time.Clock;
 
-public class BookValidator extends Validator<BookDto>{
+import static es.cesguiro.domain.validation.manual_validator.Constraints.*;
 
+public class BookValidator extends Validator<BookDto> {
 
-    @Override
-    public List<String> validate(BookDto bookDto) {
+    private static final BookValidator INSTANCE = new BookValidator(Clock.systemDefaultZone());
 
-        try {
-            Field isbnField = BookDto.class.getDeclaredField("isbn");
-            this.notNull(bookDto, isbnField);
-        } catch (Exception e) {
-            throw new ValidationException("ISBN is required");
-        }
-        return getErrors();
+    private BookValidator(Clock clock) {
+        super(Validator.<BookDto>rules()
+                .notNull("isbn", BookDto::isbn, "ISBN es obligatorio")
+                .check("isbn", BookDto::isbn, digits(13), "ISBN debe tener 13 dígitos")
+                .notNull("basePrice", BookDto::basePrice, "El precio base no puede ser nulo")
+                .check("basePrice", BookDto::basePrice, min(BigDecimal.ZERO), "El precio base debe ser mayor o igual a 0")
+                .notNull("discountPercentage", BookDto::discountPercentage, "El descuento no puede ser nulo")
+                .check("discountPercentage", BookDto::discountPercentage, min(0.0), "El descuento no puede ser menor a 0")
+                .check("discountPercentage", BookDto::discountPercentage, max(100.0), "El descuento no puede ser mayor a 100")
+                .check("publicationDate", BookDto::publicationDate, pastOrPresent(clock), "La fecha de publicación no puede ser futura"));
+    }
+
+    public static BookValidator getInstance() {
+        return INSTANCE;
+    }
+
+    // Validador con otro reloj para la regla de fecha de publicación (tests)
+    static BookValidator withClock(Clock clock) {
+        return new BookValidator(clock);
     }
 }
@@ -0,0 +1,49 @@
+package es.cesguiro.domain.validation.manual_validator;
+
+import es.cesguiro.domain.validation.Slugs;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+public final class Constraints {
+
+    private Constraints() {
+    }
+
+    public static Predicate<String> digits(int length) {
+        return value -> {
+            if (value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    public static Predicate<BigDecimal> min(BigDecimal min) {
+        return value -> value.compareTo(min) >= 0;
+    }
+
+    public static Predicate<Double> min(double min) {
+        return value -> value >= min;
+    }
+
+    public static Predicate<Double> max(double max) {
+        return value -> value <= max;
+    }
+
+    public static Predicate<LocalDate> pastOrPresent(Clock clock) {
+        return value -> !value.isAfter(LocalDate.now(clock));
+    }
+
+    public static Predicate<String> slug() {
+        return Slugs::isValid;
+    }
+}
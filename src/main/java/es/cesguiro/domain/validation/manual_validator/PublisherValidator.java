@@ -0,0 +1,20 @@
+package es.cesguiro.domain.validation.manual_validator;
+
+import es.cesguiro.domain.service.dto.PublisherDto;
+
+import static es.cesguiro.domain.validation.manual_validator.Constraints.slug;
+
+public class PublisherValidator extends Validator<PublisherDto> {
+
+    private static final PublisherValidator INSTANCE = new PublisherValidator();
+
+    private PublisherValidator() {
+        super(Validator.<PublisherDto>rules()
+                .notNull("name", PublisherDto::name, "Nombre no puede ser nulo")
+                .require("slug", PublisherDto::slug, slug(), "Valor inválido, debe ser URL-friendly (minúsculas, números y guiones)"));
+    }
+
+    public static PublisherValidator getInstance() {
+        return INSTANCE;
+    }
+}
@@ -1,36 +1,88 @@
 package es.cesguiro.domain.validation.manual_validator;
 
-import java.lang.reflect.Field;
+import es.cesguiro.domain.exception.ValidationException;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
+// Las reglas se compilan una sola vez: el validador es inmutable y se puede compartir entre hilos
 public abstract class Validator<T> {
 
-    private List<String> errors = new ArrayList<>();
+    private final List<Rule<T, ?>> rules;
+
+    protected Validator(Builder<T> builder) {
+        this.rules = List.copyOf(builder.rules);
+    }
 
-    public abstract List<String> validate(T t);
+    // Devuelve List.of() si no hay errores, sin reservar memoria
+    public List<String> validate(T t) {
+        List<String> errors = null;
+        for (Rule<T, ?> rule : rules) {
+            if (!rule.test(t)) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(rule.error());
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
 
-    protected void addError(String error) {
-        errors.add(error);
+    public boolean isValid(T t) {
+        for (Rule<T, ?> rule : rules) {
+            if (!rule.test(t)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public boolean isValid() {
-        return errors.isEmpty();
+    public void validateOrThrow(T t) {
+        List<String> errors = validate(t);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(String.join(", ", errors));
+        }
     }
 
-    public List<String> getErrors() {
-        return errors;
+    protected static <T> Builder<T> rules() {
+        return new Builder<>();
     }
 
+    protected static final class Builder<T> {
+
+        private final List<Rule<T, ?>> rules = new ArrayList<>();
 
-    protected void notNull(T instance, Field field) throws IllegalAccessException {
-        field.setAccessible(true);
-        Object value  = field.get(instance);
-        if (value == null) {
-            addError(field.getName() + " must not be null");
+        private Builder() {
+        }
+
+        public <V> Builder<T> notNull(String field, Function<T, V> accessor, String message) {
+            rules.add(new Rule<>(accessor, value -> true, false, field + ": " + message));
+            return this;
+        }
+
+        // Como en Bean Validation, un valor nulo no incumple la regla (se comprueba con notNull)
+        public <V> Builder<T> check(String field, Function<T, V> accessor, Predicate<? super V> predicate, String message) {
+            rules.add(new Rule<>(accessor, predicate, true, field + ": " + message));
+            return this;
+        }
+
+        // Para reglas donde el nulo también es inválido
+        public <V> Builder<T> require(String field, Function<T, V> accessor, Predicate<? super V> predicate, String message) {
+            rules.add(new Rule<>(accessor, predicate, false, field + ": " + message));
+            return this;
         }
     }
 
+    private record Rule<T, V>(Function<T, V> accessor, Predicate<? super V> predicate, boolean nullable, String error) {
 
-    // Other validation methods like notEmpty, maxLength, minLength, pattern, between can be added here
+        boolean test(T t) {
+            V value = accessor.apply(t);
+            if (value == null) {
+                return nullable;
+            }
+            return predicate.test(value);
+        }
+    }
 }
@@ -3,23 +3,65 @@ package es.cesguiro.domain.validation.spring_validator;
 import es.cesguiro.domain.exception.ValidationException;
 import jakarta.validation.*;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class DtoValidator {
 
+    public enum Mode {
+        // Devuelve todas las restricciones incumplidas
+        COLLECT_ALL,
+        // Se detiene en la primera restricción incumplida
+        FAIL_FAST
+    }
+
+    private static final String FAIL_FAST_PROPERTY = "hibernate.validator.fail_fast";
+
     private static final Validator validator;
+    private static final Validator failFastValidator;
 
     static {
         ValidatorFactory factory = Validation.byDefaultProvider()
                 .configure()
                 .buildValidatorFactory();
         validator = factory.getValidator();
+
+        ValidatorFactory failFastFactory = Validation.byDefaultProvider()
+                .configure()
+                .addProperty(FAIL_FAST_PROPERTY, "true")
+                .buildValidatorFactory();
+        failFastValidator = failFastFactory.getValidator();
     }
 
     public static <T> void validate(T dto) {
-        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        validate(dto, Mode.COLLECT_ALL);
+    }
+
+    public static <T> void validate(T dto, Mode mode, Class<?>... groups) {
+        Set<ConstraintViolation<T>> violations = validator(mode).validate(dto, groups);
         if (!violations.isEmpty()) {
             throw new ValidationException(violations);
         }
     }
+
+    // Errores por posición en la colección; vacío si todos son válidos
+    public static <T> Map<Integer, ValidationException> validateAll(Collection<T> dtos, Mode mode, Class<?>... groups) {
+        Validator selectedValidator = validator(mode);
+        Map<Integer, ValidationException> errors = new LinkedHashMap<>();
+        int index = 0;
+        for (T dto : dtos) {
+            Set<ConstraintViolation<T>> violations = selectedValidator.validate(dto, groups);
+            if (!violations.isEmpty()) {
+                errors.put(index, new ValidationException(violations));
+            }
+            index++;
+        }
+        return errors;
+    }
+
+    private static Validator validator(Mode mode) {
+        return mode == Mode.FAIL_FAST ? failFastValidator : validator;
+    }
 }
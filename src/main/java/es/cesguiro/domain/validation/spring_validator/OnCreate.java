@@ -0,0 +1,7 @@
+package es.cesguiro.domain.validation.spring_validator;
+
+import jakarta.validation.groups.Default;
+
+// Al extender Default, validar con este grupo incluye también las restricciones sin grupo
+public interface OnCreate extends Default {
+}
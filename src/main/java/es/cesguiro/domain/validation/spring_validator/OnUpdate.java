@@ -0,0 +1,6 @@
+package es.cesguiro.domain.validation.spring_validator;
+
+import jakarta.validation.groups.Default;
+
+public interface OnUpdate extends Default {
+}
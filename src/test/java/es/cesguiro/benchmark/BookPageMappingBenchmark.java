@@ -0,0 +1,53 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.mapper.BookMapper;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.service.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Ejecutar con -prof gc para comparar gc.alloc.rate.norm (bytes por página)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookPageMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param({"0", "1", "5", "50"})
+    private int authorsPerBook;
+
+    private List<BookEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = new CatalogGenerator(42L).generate(pageSize, 100, 10, authorsPerBook).books();
+    }
+
+    @Benchmark
+    public List<BookDto> twoStepMapping() {
+        return page.stream()
+                .map(BookMapper.getInstance()::fromBookEntityToBook)
+                .map(BookMapper.getInstance()::fromBookToBookDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> singlePassProjection() {
+        return page.stream()
+                .map(BookMapper.getInstance()::fromBookEntityToBookDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> singlePassWithIdentityMap() {
+        return BookMapper.getInstance().fromBookEntitiesToBookDtos(page);
+    }
+}
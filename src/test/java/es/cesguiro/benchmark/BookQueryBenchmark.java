@@ -0,0 +1,76 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.model.PriceCalculator;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.memory.ColumnarBookCatalog;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookQueryBenchmark {
+
+    private static final int CATALOG_SIZE = 100_000;
+
+    @Param({"publisher", "author", "priceRange"})
+    private String filter;
+
+    private List<BookEntity> books;
+    private InMemoryBookRepository repository;
+    private ColumnarBookCatalog catalog;
+    private BookQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog generated = new CatalogGenerator(42L).generate(CATALOG_SIZE, 1_000, 100, 2);
+        books = generated.books();
+        repository = new InMemoryBookRepository(books);
+        catalog = new ColumnarBookCatalog(books);
+        BookQuery.Builder builder = BookQuery.builder().orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.ASC);
+        query = switch (filter) {
+            case "publisher" -> builder.publisherSlug(generated.publishers().get(7).slug()).build();
+            case "author" -> builder.authorId(generated.authors().get(7).id()).build();
+            default -> builder.priceBetween(new BigDecimal("10"), new BigDecimal("12")).build();
+        };
+    }
+
+    @Benchmark
+    public Page<BookEntity> inMemoryIndexes() {
+        return repository.findAll(query, 1, 20);
+    }
+
+    @Benchmark
+    public Page<BookEntity> columnar() {
+        return catalog.findAll(query, 1, 20);
+    }
+
+    // Lo que hace hoy el cliente: cargar todo el catálogo y filtrar en memoria
+    @Benchmark
+    public List<BookEntity> loadAndFilter() {
+        PriceCalculator calculator = PriceCalculator.getInstance();
+        return repository.findAll(1, CATALOG_SIZE).data().stream()
+                .filter(book -> query.publisherSlug() == null || book.publisher() != null && query.publisherSlug().equals(book.publisher().slug()))
+                .filter(book -> query.authorId() == null || book.authors().stream().anyMatch(author -> query.authorId().equals(author.id())))
+                .filter(book -> {
+                    BigDecimal price = calculator.calculateFinalPrice(book.basePrice(), book.discountPercentage());
+                    return (query.minPrice() == null || price.compareTo(query.minPrice()) >= 0)
+                            && (query.maxPrice() == null || price.compareTo(query.maxPrice()) <= 0);
+                })
+                .sorted(Comparator.comparing((BookEntity book) -> calculator.calculateFinalPrice(book.basePrice(), book.discountPercentage()))
+                        .thenComparing(BookEntity::id))
+                .limit(20)
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.memory.InMemoryAuthorRepository;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.memory.InMemoryPublisherRepository;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
+import es.cesguiro.domain.service.impl.BookServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookServiceReadBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int AUTHOR_COUNT = 1_000;
+    private static final int PUBLISHER_COUNT = 100;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int pageSize;
+
+    @Param({"0", "1", "5", "50"})
+    private int authorsPerBook;
+
+    private BookService bookService;
+    private int pageCount;
+    private int nextPage;
+    private int nextIsbn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(42L)
+                .generate(CATALOG_SIZE, AUTHOR_COUNT, PUBLISHER_COUNT, authorsPerBook);
+        bookService = new BookServiceImpl(
+                new InMemoryBookRepository(catalog.books()),
+                new InMemoryPublisherRepository(catalog.publishers()),
+                new InMemoryAuthorRepository(catalog.authors())
+        );
+        pageCount = CATALOG_SIZE / pageSize;
+    }
+
+    @Benchmark
+    public Page<BookDto> getAll() {
+        nextPage = nextPage % pageCount + 1;
+        return bookService.getAll(nextPage, pageSize);
+    }
+
+    @Benchmark
+    public Page<BookDto> getAllSummaries() {
+        nextPage = nextPage % pageCount + 1;
+        return bookService.getAll(nextPage, pageSize, BookProjection.SUMMARY);
+    }
+
+    @Benchmark
+    public Page<BookSummaryDto> getSummaries() {
+        nextPage = nextPage % pageCount + 1;
+        return bookService.getSummaries(nextPage, pageSize);
+    }
+
+    @Benchmark
+    public BookDto getByIsbn() {
+        nextIsbn = (nextIsbn + 1) % CATALOG_SIZE;
+        return bookService.getByIsbn(CatalogGenerator.isbn(nextIsbn));
+    }
+}
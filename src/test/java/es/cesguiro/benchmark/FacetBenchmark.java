@@ -0,0 +1,84 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.memory.ColumnarBookCatalog;
+import es.cesguiro.domain.repository.memory.InMemoryAuthorRepository;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.memory.InMemoryPublisherRepository;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.impl.BookServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FacetBenchmark {
+
+    private static final int CATALOG_SIZE = 100_000;
+    private static final int PAGE_SIZE = 1_000;
+
+    @Param({"all", "publisher"})
+    private String filter;
+
+    private InMemoryBookRepository repository;
+    private ColumnarBookCatalog catalog;
+    private BookService bookService;
+    private BookQuery query;
+    private String publisherSlug;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog generated = new CatalogGenerator(42L).generate(CATALOG_SIZE, 1_000, 100, 2);
+        repository = new InMemoryBookRepository(generated.books());
+        catalog = new ColumnarBookCatalog(generated.books());
+        bookService = new BookServiceImpl(
+                repository,
+                new InMemoryPublisherRepository(generated.publishers()),
+                new InMemoryAuthorRepository(generated.authors())
+        );
+        publisherSlug = "all".equals(filter) ? null : generated.publishers().get(7).slug();
+        query = BookQuery.builder().publisherSlug(publisherSlug).build();
+    }
+
+    @Benchmark
+    public BookFacets inMemory() {
+        return repository.countFacets(query);
+    }
+
+    @Benchmark
+    public BookFacets columnar() {
+        return catalog.countFacets(query);
+    }
+
+    // Lo que hace hoy la capa web: recorrer todas las páginas y contar (aquí solo editoriales y autores)
+    @Benchmark
+    public Map<String, Long> pageAndCount() {
+        Map<String, Long> counts = new HashMap<>();
+        int pages = CATALOG_SIZE / PAGE_SIZE;
+        for (int page = 1; page <= pages; page++) {
+            Page<BookDto> bookDtos = bookService.getAll(page, PAGE_SIZE);
+            for (BookDto bookDto : bookDtos.data()) {
+                if (publisherSlug != null && !publisherSlug.equals(bookDto.publisher().slug())) {
+                    continue;
+                }
+                counts.merge(bookDto.publisher().slug(), 1L, Long::sum);
+                for (AuthorDto author : bookDto.authors()) {
+                    counts.merge(author.slug(), 1L, Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,60 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.memory.ColumnarBookCatalog;
+import es.cesguiro.domain.repository.memory.InMemoryAuthorRepository;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.memory.InMemoryPublisherRepository;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.impl.BookServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Carga con varios hilos sobre el repositorio en memoria, sin base de datos
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(8)
+public class InMemoryRepositoryLoadBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    private int catalogSize;
+
+    @Param({"indexed", "columnar"})
+    private String store;
+
+    private BookService bookService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(42L).generate(catalogSize, 10_000, 500, 2);
+        BookRepository bookRepository = "columnar".equals(store)
+                ? new ColumnarBookCatalog(catalog.books())
+                : new InMemoryBookRepository(catalog.books());
+        bookService = new BookServiceImpl(
+                bookRepository,
+                new InMemoryPublisherRepository(catalog.publishers()),
+                new InMemoryAuthorRepository(catalog.authors())
+        );
+    }
+
+    @Benchmark
+    public Page<BookDto> getAll() {
+        return bookService.getAll(ThreadLocalRandom.current().nextInt(catalogSize / PAGE_SIZE) + 1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BookDto getByIsbn() {
+        return bookService.getByIsbn(CatalogGenerator.isbn(ThreadLocalRandom.current().nextInt(catalogSize)));
+    }
+}
@@ -0,0 +1,82 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.mapper.AuthorMapper;
+import es.cesguiro.domain.mapper.BookMapper;
+import es.cesguiro.domain.mapper.PublisherMapper;
+import es.cesguiro.domain.model.Book;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.PublisherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "1", "5", "50"})
+    private int authorsPerBook;
+
+    private BookEntity bookEntity;
+    private Book book;
+    private AuthorEntity authorEntity;
+    private PublisherEntity publisherEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(42L).generate(1, 50, 1, authorsPerBook);
+        bookEntity = catalog.books().getFirst();
+        book = BookMapper.getInstance().fromBookEntityToBook(bookEntity);
+        authorEntity = catalog.authors().getFirst();
+        publisherEntity = catalog.publishers().getFirst();
+    }
+
+    @Benchmark
+    public Book bookEntityToBook() {
+        return BookMapper.getInstance().fromBookEntityToBook(bookEntity);
+    }
+
+    @Benchmark
+    public BookDto bookToBookDto() {
+        return BookMapper.getInstance().fromBookToBookDto(book);
+    }
+
+    @Benchmark
+    public BookDto bookEntityToBookDtoTwoStep() {
+        return BookMapper.getInstance().fromBookToBookDto(BookMapper.getInstance().fromBookEntityToBook(bookEntity));
+    }
+
+    @Benchmark
+    public BookDto bookEntityToBookDto() {
+        return BookMapper.getInstance().fromBookEntityToBookDto(bookEntity);
+    }
+
+    @Benchmark
+    public AuthorDto authorEntityToAuthorDtoTwoStep() {
+        return AuthorMapper.getInstance().fromAuthorToAuthorDto(AuthorMapper.getInstance().fromAuthorEntityToAuthor(authorEntity));
+    }
+
+    @Benchmark
+    public AuthorDto authorEntityToAuthorDto() {
+        return AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(authorEntity);
+    }
+
+    @Benchmark
+    public PublisherDto publisherEntityToPublisherDtoTwoStep() {
+        return PublisherMapper.getInstance().fromPublisherToPublisherDto(PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity));
+    }
+
+    @Benchmark
+    public PublisherDto publisherEntityToPublisherDto() {
+        return PublisherMapper.getInstance().fromPublisherEntityToPublisherDto(publisherEntity);
+    }
+}
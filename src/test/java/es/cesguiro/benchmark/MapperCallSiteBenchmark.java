@@ -0,0 +1,44 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.mapper.BookMapper;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.service.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Coste de obtener el mapper en cada llamada frente a tenerlo en un campo, con varios hilos a la vez
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MapperCallSiteBenchmark {
+
+    private final BookMapper bookMapper = BookMapper.getInstance();
+
+    private BookEntity bookEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookEntity = new CatalogGenerator(42L).generate(1, 10, 1, 1).books().getFirst();
+    }
+
+    @Benchmark
+    public BookMapper getInstance() {
+        return BookMapper.getInstance();
+    }
+
+    @Benchmark
+    public BookDto mapThroughGetInstance() {
+        return BookMapper.getInstance().fromBookEntityToBookDto(bookEntity);
+    }
+
+    @Benchmark
+    public BookDto mapThroughField() {
+        return bookMapper.fromBookEntityToBookDto(bookEntity);
+    }
+}
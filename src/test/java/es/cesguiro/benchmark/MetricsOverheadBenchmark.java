@@ -0,0 +1,70 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.metrics.InMemoryMetricsRegistry;
+import es.cesguiro.domain.metrics.MeteredAuthorRepository;
+import es.cesguiro.domain.metrics.MeteredBookRepository;
+import es.cesguiro.domain.metrics.MeteredBookService;
+import es.cesguiro.domain.metrics.MeteredPublisherRepository;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.memory.InMemoryAuthorRepository;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.memory.InMemoryPublisherRepository;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.impl.BookServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Coste de medir: la misma lectura con y sin decoradores y timers de mapeo/validación
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+
+    @Param({"false", "true"})
+    private boolean metered;
+
+    private BookService bookService;
+    private int nextIsbn;
+    private int nextPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(42L).generate(CATALOG_SIZE, 1_000, 100, 2);
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository(catalog.books());
+        InMemoryPublisherRepository publisherRepository = new InMemoryPublisherRepository(catalog.publishers());
+        InMemoryAuthorRepository authorRepository = new InMemoryAuthorRepository(catalog.authors());
+        if (!metered) {
+            bookService = new BookServiceImpl(bookRepository, publisherRepository, authorRepository);
+            return;
+        }
+        MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        BookServiceImpl bookServiceImpl = new BookServiceImpl(
+                new MeteredBookRepository(bookRepository, metricsRegistry),
+                new MeteredPublisherRepository(publisherRepository, metricsRegistry),
+                new MeteredAuthorRepository(authorRepository, metricsRegistry)
+        );
+        bookServiceImpl.setMetricsRegistry(metricsRegistry);
+        bookService = new MeteredBookService(bookServiceImpl, metricsRegistry);
+    }
+
+    @Benchmark
+    public BookDto getByIsbn() {
+        nextIsbn = (nextIsbn + 1) % CATALOG_SIZE;
+        return bookService.getByIsbn(CatalogGenerator.isbn(nextIsbn));
+    }
+
+    @Benchmark
+    public Page<BookDto> getAll() {
+        nextPage = nextPage % (CATALOG_SIZE / 20) + 1;
+        return bookService.getAll(nextPage, 20);
+    }
+}
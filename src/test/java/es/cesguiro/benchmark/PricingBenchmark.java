@@ -0,0 +1,62 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.PriceCalculator;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"0.0", "10.0", "12.5"})
+    private double discountPercentage;
+
+    private final BigDecimal basePrice = new BigDecimal("19.99");
+    private InMemoryBookRepository repository;
+    private List<BookEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new InMemoryBookRepository(new CatalogGenerator(42L).generate(1_000, 10, 1, 1).books());
+        page = repository.findAll(1, 1_000).data();
+    }
+
+    // Fórmula anterior de Book.calculateFinalPrice como referencia
+    @Benchmark
+    public BigDecimal previousFormula() {
+        BigDecimal discount = basePrice
+                .multiply(BigDecimal.valueOf(discountPercentage))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return basePrice.subtract(discount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal priceCalculator() {
+        return PriceCalculator.getInstance().calculateFinalPrice(basePrice, discountPercentage);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<BigDecimal> priceEachBook() {
+        return page.stream()
+                .map(book -> PriceCalculator.getInstance().calculateFinalPrice(book.basePrice(), book.discountPercentage()))
+                .toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<BigDecimal> findFinalPricesSinglePass() {
+        return repository.findFinalPrices(page);
+    }
+}
@@ -0,0 +1,57 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.service.search.BookSearchIndex;
+import es.cesguiro.domain.service.search.SearchHits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    @Param({"principito", "chocolate factory"})
+    private String query;
+
+    private List<BookEntity> books;
+    private BookSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = new CatalogGenerator(42L).generate(catalogSize, 1_000, 100, 2).books();
+        index = new BookSearchIndex();
+        index.rebuild(books::stream);
+    }
+
+    @Benchmark
+    public SearchHits invertedIndex() {
+        return index.search(query, 1, 20);
+    }
+
+    // Lo que hace hoy el cliente: recorrer el catálogo y filtrar por subcadena; necesita todas las coincidencias para el total
+    @Benchmark
+    public SearchHits scanAndFilter() {
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<String> matches = books.stream()
+                .filter(book -> contains(book.titleEs(), needle) || contains(book.titleEn(), needle)
+                        || contains(book.synopsisEs(), needle) || contains(book.synopsisEn(), needle))
+                .map(BookEntity::isbn)
+                .toList();
+        return new SearchHits(matches.subList(0, Math.min(20, matches.size())), matches.size());
+    }
+
+    private static boolean contains(String text, String needle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+    }
+}
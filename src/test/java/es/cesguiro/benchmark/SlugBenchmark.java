@@ -0,0 +1,43 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.domain.validation.Slugs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBenchmark {
+
+    private static final String SLUG_REGEX = "^[a-z0-9]+(?:-[a-z0-9]+)*$";
+    private static final Pattern SLUG_PATTERN = Pattern.compile(SLUG_REGEX);
+
+    @Param({"roald-dahl", "antoine-de-saint-exupery", "Gabriel García Márquez"})
+    private String value;
+
+    // Implementación anterior de SlugValidator
+    @Benchmark
+    public boolean stringMatches() {
+        return value != null && !value.isEmpty() && value.matches(SLUG_REGEX);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return value != null && !value.isEmpty() && SLUG_PATTERN.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean scanner() {
+        return Slugs.isValid(value);
+    }
+
+    @Benchmark
+    public String slugify() {
+        return Slugs.slugify(value);
+    }
+}
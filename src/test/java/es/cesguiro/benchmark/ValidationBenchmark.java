@@ -0,0 +1,102 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.domain.exception.ValidationException;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.PublisherDto;
+import es.cesguiro.domain.validation.manual_validator.AuthorValidator;
+import es.cesguiro.domain.validation.manual_validator.BookValidator;
+import es.cesguiro.domain.validation.manual_validator.PublisherValidator;
+import es.cesguiro.domain.validation.spring_validator.DtoValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private BookDto bookDto;
+    private AuthorDto authorDto;
+    private PublisherDto publisherDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookDto = new BookDto(
+                1L, valid ? "9788478884452" : "978847888445", "Título", "Title", null, null,
+                new BigDecimal("19.99"), 10.0, null, null, LocalDate.of(1997, 6, 26), null, List.of()
+        );
+        authorDto = new AuthorDto(1L, "J. K. Rowling", null, null, null, null, null, valid ? "j-k-rowling" : "J. K. Rowling");
+        publisherDto = new PublisherDto(1L, "Salamandra", valid ? "salamandra" : "Salamandra");
+    }
+
+    // Camino anterior de manual_validator: campo buscado y leído por reflexión en cada llamada
+    @Benchmark
+    public List<String> reflectiveNotNull() throws ReflectiveOperationException {
+        List<String> errors = new ArrayList<>();
+        Field isbnField = BookDto.class.getDeclaredField("isbn");
+        isbnField.setAccessible(true);
+        if (isbnField.get(bookDto) == null) {
+            errors.add(isbnField.getName() + " must not be null");
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public List<String> precompiledBook() {
+        return BookValidator.getInstance().validate(bookDto);
+    }
+
+    @Benchmark
+    public boolean precompiledAll() {
+        return BookValidator.getInstance().isValid(bookDto)
+                & AuthorValidator.getInstance().isValid(authorDto)
+                & PublisherValidator.getInstance().isValid(publisherDto);
+    }
+
+    @Benchmark
+    public boolean dtoValidatorBook() {
+        try {
+            DtoValidator.validate(bookDto);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean dtoValidatorBookFailFast() {
+        try {
+            DtoValidator.validate(bookDto, DtoValidator.Mode.FAIL_FAST);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean dtoValidatorAll() {
+        return dtoValidatorBook() & isValid(authorDto) & isValid(publisherDto);
+    }
+
+    private static boolean isValid(Object dto) {
+        try {
+            DtoValidator.validate(dto);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+}
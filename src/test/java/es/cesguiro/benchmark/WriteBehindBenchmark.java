@@ -0,0 +1,76 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.metrics.MetricsRegistry;
+import es.cesguiro.domain.repository.BookRepository;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.writebehind.WriteBehindBookRepository;
+import es.cesguiro.domain.repository.writebehind.WriteBehindOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Una ola de cambios de precio (WAVE_SIZE guardados sobre distinctBooks libros) escrita directamente o con write-behind
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBehindBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int WAVE_SIZE = 1_000;
+
+    @Param({"10", "100", "1000"})
+    private int distinctBooks;
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    private BookRepository bookRepository;
+    private WriteBehindBookRepository writeBehindRepository;
+    private List<BookEntity> wave;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(42L).generate(CATALOG_SIZE, 1_000, 100, 2);
+        InMemoryBookRepository storage = new InMemoryBookRepository(catalog.books());
+        if (writeBehind) {
+            writeBehindRepository = new WriteBehindBookRepository(storage, new WriteBehindOptions(WAVE_SIZE, Duration.ofHours(1)), MetricsRegistry.noop());
+            bookRepository = writeBehindRepository;
+        } else {
+            bookRepository = storage;
+        }
+        wave = new ArrayList<>(WAVE_SIZE);
+        for (int i = 0; i < WAVE_SIZE; i++) {
+            BookEntity book = catalog.books().get(i % distinctBooks);
+            wave.add(new BookEntity(book.id(), book.isbn(), book.titleEs(), book.titleEn(), book.synopsisEs(), book.synopsisEn(),
+                    book.basePrice().add(BigDecimal.valueOf(i % 7)), book.discountPercentage(), book.cover(), book.publicationDate(),
+                    book.publisher(), book.authors()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (writeBehindRepository != null) {
+            writeBehindRepository.close();
+        }
+    }
+
+    @Benchmark
+    public int priceWave() {
+        for (BookEntity book : wave) {
+            bookRepository.save(book);
+        }
+        if (writeBehindRepository != null) {
+            writeBehindRepository.flush();
+        }
+        return wave.size();
+    }
+}
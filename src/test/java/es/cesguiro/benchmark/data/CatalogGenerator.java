@@ -0,0 +1,114 @@
+package es.cesguiro.benchmark.data;
+
+import es.cesguiro.data.loader.AuthorsDataLoader;
+import es.cesguiro.data.loader.BooksDataLoader;
+import es.cesguiro.data.loader.PublishersDataLoader;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Genera catálogos de tamaño arbitrario usando los CSV de test como plantillas
+public class CatalogGenerator {
+
+    private static final List<PublisherEntity> PUBLISHER_TEMPLATES = new PublishersDataLoader().loadPublisherEntitiesFromCSV();
+    private static final List<AuthorEntity> AUTHOR_TEMPLATES = new AuthorsDataLoader().loadAuthorEntitiesFromCSV();
+    private static final List<BookEntity> BOOK_TEMPLATES = new BooksDataLoader().loadBookEntitiesFromCSV()
+            .stream()
+            .filter(book -> book.basePrice() != null && book.discountPercentage() != null)
+            .toList();
+
+    private final Random random;
+
+    public CatalogGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public Catalog generate(int bookCount, int authorCount, int publisherCount, int authorsPerBook) {
+        if (authorsPerBook > authorCount) {
+            throw new IllegalArgumentException("Authors per book cannot be greater than author count");
+        }
+        List<PublisherEntity> publishers = publishers(publisherCount);
+        List<AuthorEntity> authors = authors(authorCount);
+        return new Catalog(publishers, authors, books(bookCount, authorsPerBook, publishers, authors));
+    }
+
+    public List<PublisherEntity> publishers(int count) {
+        List<PublisherEntity> publishers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PublisherEntity template = PUBLISHER_TEMPLATES.get(i % PUBLISHER_TEMPLATES.size());
+            publishers.add(new PublisherEntity(
+                    (long) i + 1,
+                    template.name() + " " + (i + 1),
+                    template.slug() + "-" + (i + 1)
+            ));
+        }
+        return publishers;
+    }
+
+    public List<AuthorEntity> authors(int count) {
+        List<AuthorEntity> authors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AuthorEntity template = AUTHOR_TEMPLATES.get(i % AUTHOR_TEMPLATES.size());
+            authors.add(new AuthorEntity(
+                    (long) i + 1,
+                    template.name() + " " + (i + 1),
+                    template.nationality(),
+                    template.biographyEs(),
+                    template.biographyEn(),
+                    template.birthYear(),
+                    template.deathYear(),
+                    template.slug() + "-" + (i + 1)
+            ));
+        }
+        return authors;
+    }
+
+    public List<BookEntity> books(int count, int authorsPerBook, List<PublisherEntity> publishers, List<AuthorEntity> authors) {
+        List<BookEntity> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BookEntity template = BOOK_TEMPLATES.get(i % BOOK_TEMPLATES.size());
+            books.add(new BookEntity(
+                    (long) i + 1,
+                    isbn(i),
+                    template.titleEs(),
+                    template.titleEn(),
+                    template.synopsisEs(),
+                    template.synopsisEn(),
+                    template.basePrice(),
+                    template.discountPercentage(),
+                    template.cover(),
+                    template.publicationDate(),
+                    publishers.isEmpty() ? null : publishers.get(random.nextInt(publishers.size())),
+                    pickAuthors(authorsPerBook, authors)
+            ));
+        }
+        return books;
+    }
+
+    public static String isbn(int index) {
+        return String.format("978%010d", index);
+    }
+
+    private List<AuthorEntity> pickAuthors(int authorsPerBook, List<AuthorEntity> authors) {
+        if (authorsPerBook == 0) {
+            return List.of();
+        }
+        List<AuthorEntity> picked = new ArrayList<>(authorsPerBook);
+        int start = random.nextInt(authors.size());
+        for (int i = 0; i < authorsPerBook; i++) {
+            picked.add(authors.get((start + i) % authors.size()));
+        }
+        return picked;
+    }
+
+    public record Catalog(
+            List<PublisherEntity> publishers,
+            List<AuthorEntity> authors,
+            List<BookEntity> books
+    ) {
+    }
+}
@@ -4,13 +4,19 @@ import es.cesguiro.data.loader.BooksDataLoader;
 import es.cesguiro.domain.exception.BusinessException;
 import es.cesguiro.domain.mapper.BookMapper;
 import es.cesguiro.domain.model.Book;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.service.dto.AuthorDto;
 import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookProjection;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,4 +98,131 @@ class BookMapperTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test map BookEntity to BookDto in a single pass")
+    void toBookDto_FromBookEntity() {
+        BookEntity bookEntity = bookEntities.getFirst();
+
+        BookDto result = BookMapper.getInstance().fromBookEntityToBookDto(bookEntity);
+        BookDto expected = BookMapper.getInstance().fromBookToBookDto(BookMapper.getInstance().fromBookEntityToBook(bookEntity));
+
+        assertAll(
+                () -> assertEquals(expected, result, "Single pass projection should match two-step mapping"),
+                () -> assertEquals(bookDtos.getFirst().price(), result.price(), "Price should match")
+        );
+    }
+
+    @Test
+    @DisplayName("Test map BookEntity without authors or publisher to BookDto")
+    void toBookDto_FromBookEntityWithoutAuthorsAndPublisher() {
+        BookEntity bookEntity = bookEntities.get(24);
+        BookDto result = BookMapper.getInstance().fromBookEntityToBookDto(
+                new BookEntity(
+                        bookEntity.id(),
+                        bookEntity.isbn(),
+                        bookEntity.titleEs(),
+                        bookEntity.titleEn(),
+                        bookEntity.synopsisEs(),
+                        bookEntity.synopsisEn(),
+                        bookEntity.basePrice(),
+                        bookEntity.discountPercentage(),
+                        bookEntity.cover(),
+                        bookEntity.publicationDate(),
+                        null,
+                        null
+                )
+        );
+
+        assertAll(
+                () -> assertNull(result.publisher(), "Publisher should be null"),
+                () -> assertTrue(result.authors().isEmpty(), "Authors should be empty")
+        );
+    }
+
+    @Test
+    @DisplayName("BookEntity should map to a Book whose references are only mapped when asked for")
+    void toBook_FromBookEntity_ShouldMapReferencesLazily() {
+        BookEntity bookEntity = bookEntities.getFirst();
+
+        Book result = BookMapper.getInstance().fromBookEntityToBook(bookEntity);
+        boolean loadedBeforeAccess = result.isPublisherLoaded() || result.areAuthorsLoaded();
+
+        assertAll(
+                () -> assertFalse(loadedBeforeAccess),
+                () -> assertEquals(bookEntity.publisher().id(), result.getPublisherId()),
+                () -> assertEquals(bookEntity.authors().getFirst().id(), result.getAuthorIds().getFirst()),
+                () -> assertEquals(bookEntity.publisher().name(), result.getPublisher().getName()),
+                () -> assertEquals(bookEntity.authors().size(), result.getAuthors().size()),
+                () -> assertEquals(bookEntity, BookMapper.getInstance().fromBookToBookEntity(result))
+        );
+    }
+
+    @Test
+    @DisplayName("Summary projection should drop synopses and author details")
+    void toBookDtos_SummaryProjection() {
+        List<BookDto> summaries = BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities, BookProjection.SUMMARY);
+        List<BookDto> details = BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities, BookProjection.DETAIL);
+        BookDto summary = summaries.getFirst();
+        AuthorDto author = summary.authors().getFirst();
+
+        assertAll(
+                () -> assertEquals(BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities), details),
+                () -> assertEquals(details.getFirst().isbn(), summary.isbn()),
+                () -> assertEquals(details.getFirst().price(), summary.price()),
+                () -> assertEquals(details.getFirst().publisher(), summary.publisher()),
+                () -> assertNull(summary.synopsisEs()),
+                () -> assertNull(summary.synopsisEn()),
+                () -> assertEquals(details.getFirst().authors().getFirst().slug(), author.slug()),
+                () -> assertNull(author.biographyEs()),
+                () -> assertNull(author.nationality())
+        );
+    }
+
+    @Test
+    @DisplayName("Test map null BookEntity to BookDto")
+    void toBookDto_NullBookEntity() {
+        assertNull(BookMapper.getInstance().fromBookEntityToBookDto(null), "Mapping null BookEntity should return null BookDto");
+    }
+
+    @Test
+    @DisplayName("Map a page of BookEntity reusing repeated publishers and authors")
+    void toBookDtos_ShouldReuseRepeatedReferences() {
+        List<BookEntity> linkedBooks = bookEntities.stream()
+                .filter(bookEntity -> bookEntity.publisher() != null && bookEntity.authors() != null && !bookEntity.authors().isEmpty())
+                .toList();
+        long publishers = linkedBooks.stream().map(bookEntity -> bookEntity.publisher().id()).distinct().count();
+        long authors = linkedBooks.stream().flatMap(bookEntity -> bookEntity.authors().stream()).map(AuthorEntity::id).distinct().count();
+
+        List<BookDto> result = BookMapper.getInstance().fromBookEntitiesToBookDtos(linkedBooks);
+
+        Set<Object> publisherInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> authorInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.forEach(bookDto -> {
+            publisherInstances.add(bookDto.publisher());
+            authorInstances.addAll(bookDto.authors());
+        });
+        assertAll(
+                () -> assertEquals(linkedBooks.stream().map(BookMapper.getInstance()::fromBookEntityToBookDto).toList(), result),
+                () -> assertTrue(publishers < linkedBooks.size(), "Fixtures should repeat publishers"),
+                () -> assertEquals(publishers, publisherInstances.size(), "One PublisherDto per publisher"),
+                () -> assertEquals(authors, authorInstances.size(), "One AuthorDto per author"),
+                () -> assertThrows(UnsupportedOperationException.class, () -> result.set(0, null))
+        );
+    }
+
+    @Test
+    @DisplayName("A full MappingContext should keep mapping without storing more entries")
+    void toBookDto_WithFullContext_ShouldStillMap() {
+        MappingContext context = new MappingContext(0);
+        BookEntity bookEntity = bookEntities.getFirst();
+
+        BookDto first = BookMapper.getInstance().fromBookEntityToBookDto(bookEntity, context);
+        BookDto second = BookMapper.getInstance().fromBookEntityToBookDto(bookEntity, context);
+
+        assertAll(
+                () -> assertEquals(first, second),
+                () -> assertNotSame(first.publisher(), second.publisher()),
+                () -> assertEquals(0, context.size())
+        );
+    }
+}
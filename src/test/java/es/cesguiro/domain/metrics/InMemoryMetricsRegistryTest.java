@@ -0,0 +1,126 @@
+package es.cesguiro.domain.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMetricsRegistryTest {
+
+    @Test
+    @DisplayName("Timer percentiles should stay within the histogram's relative error")
+    void timer_ShouldReportPercentiles() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        Timer timer = registry.timer("book.service.getByIsbn");
+
+        for (long micros = 1; micros <= 10_000; micros++) {
+            timer.record(micros * 1_000);
+        }
+        MetricsSnapshot.TimerSnapshot snapshot = registry.snapshot().timers().get("book.service.getByIsbn");
+
+        assertAll(
+                () -> assertEquals(10_000, snapshot.count()),
+                () -> assertEquals(10_000_000, snapshot.maxNanos()),
+                () -> assertEquals(5_000_500.0, snapshot.meanNanos(), 1),
+                () -> assertEquals(5_000_000, snapshot.p50Nanos(), 5_000_000 * 0.03),
+                () -> assertEquals(9_000_000, snapshot.p90Nanos(), 9_000_000 * 0.03),
+                () -> assertEquals(9_900_000, snapshot.p99Nanos(), 9_900_000 * 0.03),
+                () -> assertEquals(9_990_000, snapshot.p999Nanos(), 9_990_000 * 0.03)
+        );
+    }
+
+    @Test
+    @DisplayName("Timer should record failed calls and rethrow their exception")
+    void timer_ShouldCountFailures() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        Timer timer = registry.timer("book.service.create");
+
+        timer.time(() -> "ok");
+        assertThrows(IllegalStateException.class, () -> timer.time(() -> {
+            throw new IllegalStateException();
+        }));
+        MetricsSnapshot.TimerSnapshot snapshot = registry.snapshot().timers().get("book.service.create");
+
+        assertAll(
+                () -> assertEquals(2, snapshot.count()),
+                () -> assertEquals(1, snapshot.failureCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Counters should add up increments from several threads")
+    void counter_ShouldAddConcurrentIncrements() throws Exception {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> writers = Stream.<Future<?>>generate(() -> executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    registry.counter("book.import.rows").increment();
+                }
+            })).limit(4).toList();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        assertEquals(40_000L, registry.snapshot().counters().get("book.import.rows"));
+    }
+
+    @Test
+    @DisplayName("Gauges should be read when the snapshot is taken")
+    void gauge_ShouldBeReadOnSnapshot() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        AtomicLong depth = new AtomicLong(3);
+        registry.gauge("book.writebehind.pending", depth::get);
+
+        MetricsSnapshot first = registry.snapshot();
+        depth.set(0);
+
+        assertAll(
+                () -> assertEquals(3L, first.gauges().get("book.writebehind.pending")),
+                () -> assertEquals(0L, registry.snapshot().gauges().get("book.writebehind.pending"))
+        );
+    }
+
+    @Test
+    @DisplayName("snapshot should list metrics by name and not change with later records")
+    void snapshot_ShouldBeSortedCopy() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        registry.timer("book.service.search").record(10);
+        registry.timer("author.service.getBySlug").record(10);
+        registry.counter("book.cache.hits").add(3);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        registry.timer("book.service.search").record(10);
+        registry.counter("book.cache.hits").increment();
+
+        assertAll(
+                () -> assertEquals(List.of("author.service.getBySlug", "book.service.search"), List.copyOf(snapshot.timers().keySet())),
+                () -> assertEquals(1, snapshot.timers().get("book.service.search").count()),
+                () -> assertEquals(3L, snapshot.counters().get("book.cache.hits")),
+                () -> assertSame(registry.timer("book.service.search"), registry.timer("book.service.search"))
+        );
+    }
+
+    @Test
+    @DisplayName("The noop registry should accept records and export an empty snapshot")
+    void noop_ShouldExportNothing() {
+        MetricsRegistry registry = MetricsRegistry.noop();
+
+        registry.timer("book.service.getAll").record(10);
+        registry.counter("book.cache.hits").increment();
+        registry.gauge("book.writebehind.pending", () -> 1);
+
+        assertAll(
+                () -> assertTrue(registry.snapshot().timers().isEmpty()),
+                () -> assertTrue(registry.snapshot().counters().isEmpty()),
+                () -> assertTrue(registry.snapshot().gauges().isEmpty())
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package es.cesguiro.domain.metrics;
+
+import es.cesguiro.domain.exception.ResourceNotFoundException;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredBookServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    private InMemoryMetricsRegistry registry;
+    private MeteredBookService meteredBookService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InMemoryMetricsRegistry();
+        meteredBookService = new MeteredBookService(bookService, registry);
+    }
+
+    @Test
+    @DisplayName("Each call should be delegated and timed under its method name")
+    void getAll_ShouldDelegateAndTime() {
+        Page<BookDto> page = new Page<>(List.of(), 1, 10, 0);
+        BookQuery query = BookQuery.builder().publisherSlug("anagrama").build();
+        when(bookService.getAll(1, 10)).thenReturn(page);
+        when(bookService.getAll(query, 1, 10)).thenReturn(page);
+
+        Page<BookDto> result = meteredBookService.getAll(1, 10);
+        meteredBookService.getAll(1, 10);
+        meteredBookService.getAll(query, 1, 10);
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertAll(
+                () -> assertSame(page, result),
+                () -> assertEquals(2, snapshot.timers().get("book.service.getAll").count()),
+                () -> assertEquals(1, snapshot.timers().get("book.service.getAllByQuery").count()),
+                () -> assertEquals(0, snapshot.timers().get("book.service.getByIsbn").count())
+        );
+    }
+
+    @Test
+    @DisplayName("Failed calls should be counted and keep their exception")
+    void getByIsbn_ShouldCountFailures() {
+        when(bookService.getByIsbn("9780000000000")).thenThrow(new ResourceNotFoundException("Book with isbn 9780000000000 not found"));
+
+        assertThrows(ResourceNotFoundException.class, () -> meteredBookService.getByIsbn("9780000000000"));
+        MetricsSnapshot.TimerSnapshot snapshot = registry.snapshot().timers().get("book.service.getByIsbn");
+
+        assertAll(
+                () -> assertEquals(1, snapshot.count()),
+                () -> assertEquals(1, snapshot.failureCount())
+        );
+    }
+
+    @Test
+    @DisplayName("streamAll should be timed from creation until the stream is closed")
+    void streamAll_ShouldTimeUntilClosed() throws InterruptedException {
+        when(bookService.streamAll()).thenReturn(Stream.empty());
+
+        long countBeforeClose;
+        try (Stream<BookDto> books = meteredBookService.streamAll()) {
+            books.forEach(bookDto -> {
+            });
+            Thread.sleep(20);
+            countBeforeClose = registry.snapshot().timers().get("book.service.streamAll").count();
+        }
+        MetricsSnapshot.TimerSnapshot snapshot = registry.snapshot().timers().get("book.service.streamAll");
+
+        assertAll(
+                () -> assertEquals(0, countBeforeClose),
+                () -> assertEquals(1, snapshot.count()),
+                () -> assertTrue(snapshot.totalNanos() >= TimeUnit.MILLISECONDS.toNanos(20), "Consumption should be included")
+        );
+    }
+
+    @Test
+    @DisplayName("void methods should also be delegated and timed")
+    void deleteByIsbn_ShouldDelegateAndTime() {
+        meteredBookService.deleteByIsbn("9780000000000");
+
+        verify(bookService).deleteByIsbn("9780000000000");
+        assertEquals(1, registry.snapshot().timers().get("book.service.deleteByIsbn").count());
+    }
+}
@@ -0,0 +1,39 @@
+package es.cesguiro.domain.model;
+
+import es.cesguiro.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookCursorTest {
+
+    @ParameterizedTest
+    @DisplayName("Decode encoded cursor should return the same id")
+    @ValueSource(longs = {1L, 42L, Long.MAX_VALUE})
+    void encodeDecode(long id) {
+        String cursor = BookCursor.encode(id);
+        assertAll(
+                () -> assertFalse(cursor.contains(String.valueOf(id)), "Cursor should be opaque"),
+                () -> assertEquals(id, BookCursor.decode(cursor))
+        );
+    }
+
+    @Test
+    @DisplayName("Null or empty cursor means first page")
+    void decodeNullCursor() {
+        assertAll(
+                () -> assertNull(BookCursor.decode(null)),
+                () -> assertNull(BookCursor.decode(""))
+        );
+    }
+
+    @ParameterizedTest
+    @DisplayName("Decode invalid cursor should throw BusinessException")
+    @ValueSource(strings = {"not a cursor", "aXNibjox", "aWQ6YWJj"})
+    void decodeInvalidCursor(String cursor) {
+        assertThrows(BusinessException.class, () -> BookCursor.decode(cursor));
+    }
+}
@@ -0,0 +1,38 @@
+package es.cesguiro.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookFacetsTest {
+
+    @ParameterizedTest
+    @DisplayName("Discounts should fall into their band, with the upper limit included")
+    @CsvSource({"0, NONE", "5, UP_TO_10", "10, UP_TO_10", "10.5, UP_TO_25", "25, UP_TO_25", "50, UP_TO_50", "75, OVER_50"})
+    void discountBand_ShouldIncludeUpperLimit(double discount, BookFacets.DiscountBand expected) {
+        assertEquals(expected, BookFacets.DiscountBand.of(discount));
+    }
+
+    @Test
+    @DisplayName("Counts should be sorted by count and then by value, dropping empty values")
+    void of_ShouldSortCounts() {
+        BookFacets facets = BookFacets.of(Map.of("b", 2L, "a", 2L, "c", 5L, "d", 0L), Map.of(), Map.of(), Map.of(), Map.of());
+
+        assertAll(
+                () -> assertEquals(
+                        List.of(new BookFacets.FacetCount("c", 5), new BookFacets.FacetCount("a", 2), new BookFacets.FacetCount("b", 2)),
+                        facets.publishers()
+                ),
+                () -> assertEquals(BookFacets.DiscountBand.NONE, BookFacets.DiscountBand.of(null)),
+                () -> assertEquals("1960", BookFacets.decade(LocalDate.of(1967, 3, 1))),
+                () -> assertEquals("-10", BookFacets.decade(LocalDate.of(-5, 1, 1)))
+        );
+    }
+}
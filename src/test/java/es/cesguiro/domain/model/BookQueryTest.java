@@ -0,0 +1,48 @@
+package es.cesguiro.domain.model;
+
+import es.cesguiro.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookQueryTest {
+
+    @Test
+    @DisplayName("An empty query should have no filters and the natural id order")
+    void all_ShouldHaveNoFilters() {
+        BookQuery byIdAsc = BookQuery.builder().orderBy(BookQuery.SortKey.ID, BookQuery.Direction.ASC).build();
+        BookQuery byIdDesc = BookQuery.builder().orderBy(BookQuery.SortKey.ID, BookQuery.Direction.DESC).build();
+
+        assertAll(
+                () -> assertFalse(BookQuery.all().hasFilters()),
+                () -> assertTrue(BookQuery.all().isOrderedById()),
+                () -> assertTrue(byIdAsc.isOrderedById()),
+                () -> assertFalse(byIdDesc.isOrderedById()),
+                () -> assertTrue(BookQuery.builder().priceBetween(null, BigDecimal.TEN).build().hasFilters())
+        );
+    }
+
+    @Test
+    @DisplayName("publishedAfter should exclude the given date")
+    void publishedAfter_ShouldStartNextDay() {
+        BookQuery query = BookQuery.builder().publishedAfter(LocalDate.of(2000, 12, 31)).build();
+
+        assertAll(
+                () -> assertEquals(LocalDate.of(2001, 1, 1), query.publishedFrom()),
+                () -> assertNull(query.publishedTo())
+        );
+    }
+
+    @Test
+    @DisplayName("Inverted ranges should throw BusinessException")
+    void build_InvertedRanges_ShouldThrow() {
+        assertThrows(BusinessException.class, () -> BookQuery.builder().priceBetween(BigDecimal.TEN, BigDecimal.ONE).build());
+        assertThrows(BusinessException.class, () -> BookQuery.builder()
+                .publishedBetween(LocalDate.of(2001, 1, 1), LocalDate.of(2000, 1, 1))
+                .build());
+    }
+}
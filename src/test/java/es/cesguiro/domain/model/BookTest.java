@@ -75,6 +75,48 @@ class BookTest {
         assertTrue(book.getAuthors().contains(author), "Book should contain the added author");
     }
 
+    @Test
+    @DisplayName("Book with lazy references should resolve them once, on first access")
+    void lazyReferences_ShouldResolveOnFirstAccess() {
+        Publisher publisher = new Publisher(7L, "Anagrama", "anagrama");
+        CountingResolver resolver = new CountingResolver(publisher, authors);
+        Book book = new Book(1L, "9999999999999", "Título", "Title", null, null, BigDecimal.TEN, 0.0, null, null,
+                7L, List.of(authors.get(1).getId(), authors.getFirst().getId()), resolver);
+
+        List<Long> authorIdsBeforeLoading = book.getAuthorIds();
+        boolean loadedBeforeAccess = book.isPublisherLoaded() || book.areAuthorsLoaded();
+        book.getPublisher();
+        book.getAuthors();
+        book.getAuthors();
+
+        assertAll(
+                () -> assertFalse(loadedBeforeAccess),
+                () -> assertEquals(List.of(authors.get(1).getId(), authors.getFirst().getId()), authorIdsBeforeLoading),
+                () -> assertEquals(7L, book.getPublisherId()),
+                () -> assertSame(publisher, book.getPublisher()),
+                () -> assertEquals(List.of(authors.get(1), authors.getFirst()), book.getAuthors()),
+                () -> assertEquals(1, resolver.publisherCalls),
+                () -> assertEquals(1, resolver.authorCalls)
+        );
+    }
+
+    @Test
+    @DisplayName("Adding an author to a lazy Book should load its authors first")
+    void lazyReferences_AddAuthorShouldLoadAuthors() {
+        CountingResolver resolver = new CountingResolver(null, authors);
+        Book book = new Book(1L, "9999999999999", "Título", "Title", null, null, BigDecimal.TEN, 0.0, null, null,
+                null, List.of(authors.getFirst().getId()), resolver);
+
+        book.addAuthor(authors.get(1));
+
+        assertAll(
+                () -> assertEquals(List.of(authors.getFirst(), authors.get(1)), book.getAuthors()),
+                () -> assertThrows(BusinessException.class, () -> book.addAuthor(authors.getFirst())),
+                () -> assertNull(book.getPublisher()),
+                () -> assertEquals(0, resolver.publisherCalls)
+        );
+    }
+
     @Test
     @DisplayName("Add existing Author to Book")
     void addExistingAuthorToBook() {
@@ -83,4 +125,31 @@ class BookTest {
         assertThrows(BusinessException.class, () -> book.addAuthor(author));
     }
 
+    private static final class CountingResolver implements ReferenceResolver {
+
+        private final Publisher publisher;
+        private final List<Author> authors;
+        private int publisherCalls;
+        private int authorCalls;
+
+        CountingResolver(Publisher publisher, List<Author> authors) {
+            this.publisher = publisher;
+            this.authors = authors;
+        }
+
+        @Override
+        public Publisher publisher(Long publisherId) {
+            publisherCalls++;
+            return publisher;
+        }
+
+        @Override
+        public List<Author> authors(List<Long> authorIds) {
+            authorCalls++;
+            return authorIds.stream()
+                    .map(id -> authors.stream().filter(author -> author.getId().equals(id)).findFirst().orElseThrow())
+                    .toList();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package es.cesguiro.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceCalculatorTest {
+
+    private final PriceCalculator priceCalculator = PriceCalculator.getInstance();
+
+    @ParameterizedTest(name = "{index} => basePrice={0}, discountPercentage={1}, expectedPrice={2}")
+    @DisplayName("Calculate final price with various discounts")
+    @CsvSource({
+            "100.00, 15.0, 85.00",
+            "50.00, 0.0, 50.00",
+            "75.00, 100.0, 0.00",
+            "15.99, 10.0, 14.39",
+            "14.99, 5.0, 14.24",
+            "19.99, 12.5, 17.49",
+            "10, , 10.00",
+            ", 10.0, 0.00"
+    })
+    void calculateFinalPrice(String basePrice, Double discountPercentage, String expectedPrice) {
+        BigDecimal result = priceCalculator.calculateFinalPrice(
+                basePrice == null ? null : new BigDecimal(basePrice),
+                discountPercentage
+        );
+        assertEquals(new BigDecimal(expectedPrice), result);
+    }
+
+    @Test
+    @DisplayName("Calculate final price should match the previous BigDecimal formula")
+    void calculateFinalPrice_ShouldMatchPreviousFormula() {
+        for (int cents = 0; cents < 5_000; cents += 7) {
+            BigDecimal basePrice = BigDecimal.valueOf(cents, 2);
+            for (double discount = 0.0; discount <= 100.0; discount += 2.5) {
+                BigDecimal expected = basePrice.subtract(basePrice
+                        .multiply(BigDecimal.valueOf(discount))
+                        .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
+                ).setScale(2, RoundingMode.HALF_UP);
+                assertEquals(expected, priceCalculator.calculateFinalPrice(basePrice, discount), basePrice + " - " + discount + "%");
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarBookCatalogTest {
+
+    private static final CatalogGenerator.Catalog CATALOG = new CatalogGenerator(11L).generate(1_000, 50, 5, 3);
+
+    @Test
+    @DisplayName("findFinalPrices should reuse the price column only for books with the stored base price and discount")
+    void findFinalPrices_ShouldMatchPriceCalculator() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        List<BookEntity> page = new ArrayList<>(catalog.findAll(2, 50).data());
+        BookEntity book = page.getFirst();
+        page.set(0, new BookEntity(book.id(), book.isbn(), book.titleEs(), book.titleEn(), book.synopsisEs(), book.synopsisEn(),
+                book.basePrice().add(BigDecimal.ONE), 50.0, book.cover(), book.publicationDate(), book.publisher(), book.authors()));
+
+        List<BigDecimal> expected = page.stream()
+                .map(BookQueries::finalPrice)
+                .toList();
+
+        assertEquals(expected, catalog.findFinalPrices(page));
+    }
+
+    @Test
+    @DisplayName("Every book should be materialized equal to the original entity")
+    void streamAll_ShouldRebuildEntities() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+
+        List<BookEntity> books;
+        try (Stream<BookEntity> stream = catalog.streamAll()) {
+            books = stream.toList();
+        }
+
+        assertEquals(CATALOG.books(), books);
+    }
+
+    @Test
+    @DisplayName("Books should be found by id and isbn")
+    void find_ShouldUseIndexes() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        BookEntity book = CATALOG.books().get(123);
+
+        assertAll(
+                () -> assertEquals(Optional.of(book), catalog.findById(book.id())),
+                () -> assertEquals(Optional.of(book), catalog.findByIsbn(book.isbn())),
+                () -> assertEquals(Optional.empty(), catalog.findById(-1L)),
+                () -> assertEquals(Optional.empty(), catalog.findByIsbn("0000000000000")),
+                () -> assertEquals(Optional.empty(), catalog.findByIsbn("not-an-isbn")),
+                () -> assertTrue(catalog.existsById(book.id())),
+                () -> assertTrue(catalog.existsByIsbn(book.isbn())),
+                () -> assertFalse(catalog.existsById(-1L)),
+                () -> assertFalse(catalog.existsByIsbn("0000000000000")),
+                () -> assertEquals(List.of(book), catalog.findAllByIsbns(List.of(book.isbn(), "9999999999999")))
+        );
+    }
+
+    @Test
+    @DisplayName("Summaries should match the in-memory repository, final price included")
+    void findAllSummaries_ShouldMatchInMemoryRepository() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        InMemoryBookRepository repository = new InMemoryBookRepository(CATALOG.books());
+
+        Page<BookSummaryEntity> page = catalog.findAllSummaries(3, 100);
+
+        assertAll(
+                () -> assertEquals(repository.findAllSummaries(3, 100), page),
+                () -> assertEquals(1_000, page.totalElements()),
+                () -> assertTrue(catalog.findAllSummaries(11, 100).data().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Publishers and authors should be shared between books")
+    void authors_ShouldBeShared() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        List<BookEntity> books = catalog.findAll(1, 1_000).data();
+
+        long distinctPublishers = books.stream().map(BookEntity::publisher).distinct().count();
+        long distinctPublisherInstances = books.stream()
+                .map(BookEntity::publisher)
+                .map(System::identityHashCode)
+                .distinct()
+                .count();
+
+        assertEquals(distinctPublishers, distinctPublisherInstances);
+    }
+
+    @Test
+    @DisplayName("Books with missing fields and irregular isbns should round trip")
+    void constructor_ShouldKeepNullsAndIrregularIsbns() {
+        BookEntity sparse = new BookEntity(5L, "84-376-0494-X", null, null, null, null, null, null, null, null, null, null);
+        BookEntity leadingZeros = new BookEntity(7L, "0000000000042", "Título", null, null, null, null, 0.0, null, null, null, List.of());
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(List.of(leadingZeros, sparse));
+
+        assertAll(
+                () -> assertEquals(Optional.of(new BookEntity(5L, "84-376-0494-X", null, null, null, null, null, null, null, null, null, List.of())),
+                        catalog.findByIsbn("84-376-0494-X")),
+                () -> assertEquals(Optional.of(leadingZeros), catalog.findByIsbn("0000000000042")),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ColumnarBookCatalog(List.of(leadingZeros, leadingZeros)))
+        );
+    }
+
+    @Test
+    @DisplayName("Pages and cursors should follow the id order")
+    void findAll_ShouldPageById() {
+        ColumnarBookCatalog catalog = ColumnarBookCatalog.snapshot(new InMemoryBookRepository(CATALOG.books()));
+        // El repositorio asigna la versión 0 a los libros que carga sin versión
+        List<BookEntity> versioned = CATALOG.books().stream().map(book -> book.withVersion(0L)).toList();
+
+        Page<BookEntity> page = catalog.findAll(10, 100);
+        List<BookEntity> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookEntity> cursorPage = catalog.findAfter(cursor, 300);
+            walked.addAll(cursorPage.data());
+            cursor = cursorPage.nextCursor();
+        } while (cursor != null);
+
+        assertAll(
+                () -> assertEquals(versioned.subList(900, 1_000), page.data()),
+                () -> assertEquals(1_000, page.totalElements()),
+                () -> assertFalse(catalog.findAll(1, 10, false).hasTotal()),
+                () -> assertEquals(versioned, walked)
+        );
+    }
+
+    @Test
+    @DisplayName("The catalog should be read-only")
+    void save_ShouldNotBeSupported() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+
+        assertThrows(UnsupportedOperationException.class, () -> catalog.save(CATALOG.books().getFirst()));
+        assertThrows(UnsupportedOperationException.class, () -> catalog.deleteByIsbn(CATALOG.books().getFirst().isbn()));
+    }
+
+    static Stream<BookQuery> queries() {
+        return Stream.of(
+                BookQuery.builder().publisherId(CATALOG.publishers().get(2).id()).build(),
+                BookQuery.builder().publisherSlug(CATALOG.publishers().get(3).slug()).orderBy(BookQuery.SortKey.TITLE_ES, BookQuery.Direction.ASC).build(),
+                BookQuery.builder().authorId(CATALOG.authors().get(7).id()).orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.DESC).build(),
+                BookQuery.builder().authorSlug(CATALOG.authors().get(7).slug()).publisherId(CATALOG.publishers().get(1).id()).build(),
+                BookQuery.builder().priceBetween(new BigDecimal("10"), new BigDecimal("15.50")).build(),
+                BookQuery.builder().priceBetween(null, new BigDecimal("12.345")).orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.ASC).build(),
+                BookQuery.builder().publishedBetween(LocalDate.of(1950, 1, 1), LocalDate.of(1999, 12, 31))
+                        .orderBy(BookQuery.SortKey.PUBLICATION_DATE, BookQuery.Direction.DESC).build(),
+                BookQuery.builder().publishedAfter(LocalDate.of(1960, 6, 1)).priceBetween(new BigDecimal("5"), null).build(),
+                BookQuery.builder().orderBy(BookQuery.SortKey.TITLE_EN, BookQuery.Direction.DESC).orderBy(BookQuery.SortKey.ID, BookQuery.Direction.DESC).build(),
+                BookQuery.builder().publisherId(-1L).build(),
+                BookQuery.builder().publisherId(CATALOG.publishers().get(0).id()).publisherSlug(CATALOG.publishers().get(1).slug()).build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    @DisplayName("Queries should return the same books as filtering and sorting the whole catalog")
+    void findAllWithQuery_ShouldMatchFullScan(BookQuery query) {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        List<BookEntity> expected = CATALOG.books().stream()
+                .filter(book -> BookQueries.matches(query, book))
+                .sorted(BookQueries.comparator(query))
+                .toList();
+
+        Page<BookEntity> page = catalog.findAll(query, 2, 25);
+
+        assertAll(
+                () -> assertEquals(expected.size(), page.totalElements()),
+                () -> assertEquals(expected.subList(Math.min(25, expected.size()), Math.min(50, expected.size())), page.data())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    @DisplayName("Facet counts should match counting the filtered catalog book by book")
+    void countFacets_ShouldMatchFullScan(BookQuery query) {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+        FacetCounters expected = new FacetCounters();
+        CATALOG.books().stream()
+                .filter(book -> BookQueries.matches(query, book))
+                .forEach(expected::add);
+
+        assertEquals(expected.toFacets(), catalog.countFacets(query));
+    }
+
+    @Test
+    @DisplayName("Facet counts without filters should cover the whole catalog")
+    void countFacets_WithoutFilters_ShouldCountAllBooks() {
+        ColumnarBookCatalog catalog = new ColumnarBookCatalog(CATALOG.books());
+
+        BookFacets facets = catalog.countFacets(BookQuery.all());
+
+        assertAll(
+                () -> assertEquals(1_000, facets.publishers().stream().mapToLong(BookFacets.FacetCount::count).sum()),
+                () -> assertEquals(1_000, facets.discountBands().stream().mapToLong(BookFacets.FacetCount::count).sum()),
+                () -> assertEquals(3_000, facets.authors().stream().mapToLong(BookFacets.FacetCount::count).sum())
+        );
+    }
+}
@@ -0,0 +1,438 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.exception.VersionConflictException;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBookRepositoryTest {
+
+    private static BookEntity bookEntity(Long id, String isbn) {
+        return new BookEntity(id, isbn, "Título", "Title", null, null, BigDecimal.TEN, 0.0, null, LocalDate.of(2020, 1, 1), null, List.of());
+    }
+
+    private static InMemoryBookRepository repositoryWith(int count) {
+        List<BookEntity> books = new ArrayList<>();
+        for (long id = count; id >= 1; id--) {
+            books.add(bookEntity(id, String.format("978%010d", id)));
+        }
+        return new InMemoryBookRepository(books);
+    }
+
+    @Test
+    @DisplayName("save should assign ids after the highest existing id")
+    void save_ShouldAssignId() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        BookEntity saved = repository.save(bookEntity(null, "9990000000000"));
+
+        assertAll(
+                () -> assertEquals(4L, saved.id()),
+                () -> assertEquals(Optional.of(saved), repository.findById(4L)),
+                () -> assertEquals(Optional.of(saved), repository.findByIsbn("9990000000000"))
+        );
+    }
+
+    @Test
+    @DisplayName("save should move the isbn index when a book changes its isbn")
+    void save_ShouldReindexIsbn() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        repository.save(bookEntity(2L, "9990000000000"));
+
+        assertAll(
+                () -> assertEquals(Optional.empty(), repository.findByIsbn("9780000000002")),
+                () -> assertEquals(2L, repository.findByIsbn("9990000000000").orElseThrow().id()),
+                () -> assertEquals(3, repository.size())
+        );
+    }
+
+    @Test
+    @DisplayName("save should reject an isbn that belongs to another book")
+    void save_ShouldRejectDuplicatedIsbn() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        assertThrows(BusinessException.class, () -> repository.save(bookEntity(null, "9780000000001")));
+        assertThrows(BusinessException.class, () -> repository.save(bookEntity(2L, "9780000000001")));
+    }
+
+    @Test
+    @DisplayName("save should only write a versioned book whose version matches the stored one")
+    void save_ShouldCompareAndSetVersion() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        BookEntity updated = repository.save(bookEntity(2L, "9780000000002").withVersion(0L));
+        VersionConflictException stale = assertThrows(VersionConflictException.class,
+                () -> repository.save(bookEntity(2L, "9780000000002").withVersion(0L)));
+        BookEntity unchecked = repository.save(bookEntity(2L, "9780000000002"));
+        repository.deleteByIsbn("9780000000003");
+        VersionConflictException deleted = assertThrows(VersionConflictException.class,
+                () -> repository.save(bookEntity(3L, "9780000000003").withVersion(0L)));
+
+        assertAll(
+                () -> assertEquals(0L, repository.findById(1L).orElseThrow().version()),
+                () -> assertEquals(1L, updated.version()),
+                () -> assertEquals(0L, stale.getExpectedVersion()),
+                () -> assertEquals(1L, stale.getActualVersion()),
+                () -> assertEquals(2L, unchecked.version()),
+                () -> assertNull(deleted.getActualVersion()),
+                () -> assertEquals(0L, repository.save(bookEntity(null, "9990000000000")).version())
+        );
+    }
+
+    @Test
+    @DisplayName("saveAll should not write any book when one of them has a stale version")
+    void saveAll_ShouldRejectWholeBatchOnConflict() {
+        InMemoryBookRepository repository = repositoryWith(3);
+        repository.save(bookEntity(3L, "9780000000003").withVersion(0L));
+
+        assertThrows(VersionConflictException.class, () -> repository.saveAll(List.of(
+                new BookEntity(1L, "9780000000001", "Nuevo", null, null, null, BigDecimal.ONE, 0.0, null, null, null, List.of()).withVersion(0L),
+                bookEntity(3L, "9780000000003").withVersion(0L)
+        )));
+
+        assertAll(
+                () -> assertEquals("Título", repository.findById(1L).orElseThrow().titleEs()),
+                () -> assertEquals(0L, repository.findById(1L).orElseThrow().version())
+        );
+    }
+
+    @Test
+    @DisplayName("saveAll should check ISBNs and repeated ids for the whole batch before writing")
+    void saveAll_ShouldCheckWholeBatchBeforeWriting() {
+        InMemoryBookRepository repository = repositoryWith(2);
+
+        assertAll(
+                () -> assertThrows(BusinessException.class, () -> repository.saveAll(List.of(
+                        bookEntity(null, "9990000000000"),
+                        bookEntity(null, "9780000000001")))),
+                () -> assertThrows(BusinessException.class, () -> repository.saveAll(List.of(
+                        bookEntity(null, "9990000000000"),
+                        bookEntity(null, "9990000000000")))),
+                () -> assertThrows(VersionConflictException.class, () -> repository.saveAll(List.of(
+                        bookEntity(1L, "9990000000001").withVersion(0L),
+                        bookEntity(1L, "9990000000001").withVersion(0L))))
+        );
+        List<BookEntity> saved = repository.saveAll(List.of(
+                bookEntity(1L, "9990000000001").withVersion(0L),
+                bookEntity(2L, "9780000000001"),
+                bookEntity(1L, "9990000000001").withVersion(1L)
+        ));
+
+        assertAll(
+                () -> assertEquals(3, saved.size()),
+                () -> assertEquals(2L, repository.findById(1L).orElseThrow().version()),
+                () -> assertEquals(2L, repository.findByIsbn("9780000000001").orElseThrow().id()),
+                () -> assertEquals(Optional.empty(), repository.findByIsbn("9780000000002")),
+                () -> assertEquals(2, repository.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent read-modify-write loops retrying on conflict should not lose updates")
+    void save_ConcurrentEditorsShouldNotLoseUpdates() throws Exception {
+        InMemoryBookRepository repository = repositoryWith(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> editors = Stream.<Future<?>>generate(() -> executor.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    while (true) {
+                        BookEntity current = repository.findById(1L).orElseThrow();
+                        BookEntity edited = new BookEntity(1L, current.isbn(), current.titleEs(), current.titleEn(), null, null,
+                                current.basePrice().add(BigDecimal.ONE), 0.0, null, current.publicationDate(), null, List.of(), current.version());
+                        try {
+                            repository.save(edited);
+                            break;
+                        } catch (VersionConflictException e) {
+                            // Otro editor ganó: se relee y se reintenta
+                        }
+                    }
+                }
+            })).limit(4).toList();
+            for (Future<?> editor : editors) {
+                editor.get();
+            }
+        }
+
+        BookEntity book = repository.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertEquals(new BigDecimal("1010"), book.basePrice()),
+                () -> assertEquals(1_000L, book.version())
+        );
+    }
+
+    @Test
+    @DisplayName("findAll should page books sorted by id")
+    void findAll_ShouldPageById() {
+        InMemoryBookRepository repository = repositoryWith(25);
+
+        Page<BookEntity> page = repository.findAll(3, 10);
+        Page<BookEntity> pageWithoutTotal = repository.findAll(2, 10, false);
+
+        assertAll(
+                () -> assertEquals(List.of(21L, 22L, 23L, 24L, 25L), page.data().stream().map(BookEntity::id).toList()),
+                () -> assertEquals(25, page.totalElements()),
+                () -> assertEquals(3, page.totalPages()),
+                () -> assertEquals(11L, pageWithoutTotal.data().getFirst().id()),
+                () -> assertFalse(pageWithoutTotal.hasTotal()),
+                () -> assertTrue(repository.findAll(4, 10).data().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("findAll should see books saved and deleted after the previous read")
+    void findAll_ShouldReflectWrites() {
+        InMemoryBookRepository repository = repositoryWith(5);
+        repository.findAll(1, 10);
+
+        repository.save(bookEntity(null, "9990000000000"));
+        repository.deleteByIsbn("9780000000001");
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), repository.findAll(1, 10).data().stream().map(BookEntity::id).toList());
+    }
+
+    @Test
+    @DisplayName("exists checks and deleteByIsbn should report presence without loading books")
+    void existsAndDelete_ShouldReportPresence() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        boolean existedByIsbn = repository.existsByIsbn("9780000000002");
+        boolean existedById = repository.existsById(2L);
+        int deleted = repository.deleteByIsbn("9780000000002");
+        int deletedAgain = repository.deleteByIsbn("9780000000002");
+
+        assertAll(
+                () -> assertTrue(existedByIsbn),
+                () -> assertTrue(existedById),
+                () -> assertEquals(1, deleted),
+                () -> assertEquals(0, deletedAgain),
+                () -> assertEquals(0, repository.deleteByIsbn(null)),
+                () -> assertFalse(repository.existsByIsbn("9780000000002")),
+                () -> assertFalse(repository.existsById(2L)),
+                () -> assertFalse(repository.existsById(null))
+        );
+    }
+
+    @Test
+    @DisplayName("findAllSummaries should page like findAll with final prices and reference names")
+    void findAllSummaries_ShouldPageById() {
+        PublisherEntity anagrama = new PublisherEntity(1L, "Anagrama", "anagrama");
+        AuthorEntity borges = new AuthorEntity(1L, "Jorge Luis Borges", null, null, null, null, null, "jorge-luis-borges");
+        AuthorEntity bioy = new AuthorEntity(2L, "Adolfo Bioy Casares", null, null, null, null, null, "adolfo-bioy-casares");
+        InMemoryBookRepository repository = repositoryWith(3);
+        repository.findAllSummaries(1, 10);
+
+        repository.save(new BookEntity(2L, "9780000000002", "Crónicas de Bustos Domecq", null, "Sinopsis", null, new BigDecimal("20.00"), 25.0, "cover.jpg", null, anagrama, List.of(borges, bioy)));
+        Page<BookSummaryEntity> page = repository.findAllSummaries(1, 2);
+
+        assertAll(
+                () -> assertEquals(new BookSummaryEntity(2L, "9780000000002", "Crónicas de Bustos Domecq", null, new BigDecimal("15.00"), "cover.jpg", "Anagrama", List.of("Jorge Luis Borges", "Adolfo Bioy Casares")), page.data().get(1)),
+                () -> assertEquals(new BigDecimal("10.00"), page.data().getFirst().price()),
+                () -> assertNull(page.data().getFirst().publisherName()),
+                () -> assertEquals(List.of(), page.data().getFirst().authorNames()),
+                () -> assertEquals(3, page.totalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("findAll with a query should filter by publisher, author, final price and date using the indexes")
+    void findAllWithQuery_ShouldFilter() {
+        PublisherEntity anagrama = new PublisherEntity(1L, "Anagrama", "anagrama");
+        PublisherEntity planeta = new PublisherEntity(2L, "Planeta", "planeta");
+        AuthorEntity borges = new AuthorEntity(1L, "Jorge Luis Borges", null, null, null, null, null, "jorge-luis-borges");
+        InMemoryBookRepository repository = new InMemoryBookRepository(List.of(
+                new BookEntity(1L, "9780000000001", "Ficciones", null, null, null, new BigDecimal("20.00"), 50.0, null, LocalDate.of(1944, 1, 1), anagrama, List.of(borges)),
+                new BookEntity(2L, "9780000000002", "El Aleph", null, null, null, new BigDecimal("15.00"), 0.0, null, LocalDate.of(1949, 1, 1), planeta, List.of(borges)),
+                new BookEntity(3L, "9780000000003", "Rayuela", null, null, null, new BigDecimal("25.00"), null, null, LocalDate.of(1963, 1, 1), anagrama, List.of()),
+                new BookEntity(4L, "9780000000004", "Sin fecha", null, null, null, new BigDecimal("8.00"), null, null, null, planeta, List.of())
+        ));
+
+        assertAll(
+                () -> assertEquals(List.of(1L, 3L), ids(repository.findAll(BookQuery.builder().publisherSlug("anagrama").build(), 1, 10))),
+                () -> assertEquals(List.of(2L), ids(repository.findAll(BookQuery.builder().authorId(1L).publisherId(2L).build(), 1, 10))),
+                // Ficciones cuesta 10.00 tras el descuento del 50 %
+                () -> assertEquals(List.of(4L, 1L), ids(repository.findAll(BookQuery.builder()
+                        .priceBetween(null, new BigDecimal("10"))
+                        .orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.ASC)
+                        .build(), 1, 10))),
+                () -> assertEquals(List.of(3L, 2L), ids(repository.findAll(BookQuery.builder()
+                        .publishedAfter(LocalDate.of(1944, 1, 1))
+                        .orderBy(BookQuery.SortKey.PUBLICATION_DATE, BookQuery.Direction.DESC)
+                        .build(), 1, 10))),
+                () -> assertEquals(List.of(2L, 1L, 3L, 4L), ids(repository.findAll(BookQuery.builder()
+                        .orderBy(BookQuery.SortKey.TITLE_ES, BookQuery.Direction.ASC)
+                        .build(), 1, 10))),
+                () -> assertEquals(4, repository.findAll(BookQuery.all(), 1, 2).totalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("findAll with a query should reject an invalid page or size before running the query")
+    void findAllWithQuery_ShouldValidatePage() {
+        InMemoryBookRepository repository = repositoryWith(3);
+        BookQuery byPrice = BookQuery.builder().orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.ASC).build();
+
+        RuntimeException zeroSize = assertThrows(RuntimeException.class, () -> repository.findAll(byPrice, 1, 0));
+        RuntimeException zeroPage = assertThrows(RuntimeException.class, () -> repository.findAll(byPrice, 0, 10));
+
+        assertAll(
+                () -> assertEquals("Page size must be greater than zero", zeroSize.getMessage()),
+                () -> assertEquals("Page number cannot be less than one", zeroPage.getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("findFinalPrices should price a whole page in order, recalculating only books that changed")
+    void findFinalPrices_ShouldReuseStoredPrices() {
+        InMemoryBookRepository repository = repositoryWith(3);
+        List<BookEntity> page = new ArrayList<>(repository.findAll(1, 3).data());
+        page.set(1, new BookEntity(2L, "9780000000002", "Título", "Title", null, null, new BigDecimal("20.00"), 12.5, null, null, null, List.of()));
+        page.add(bookEntity(null, "9990000000000"));
+
+        List<BigDecimal> prices = repository.findFinalPrices(page);
+
+        assertEquals(List.of(new BigDecimal("10.00"), new BigDecimal("17.50"), new BigDecimal("10.00"), new BigDecimal("10.00")), prices);
+    }
+
+    @Test
+    @DisplayName("Paged reads should reject an invalid page or size before slicing the catalog")
+    void findAll_ShouldValidatePageBeforeSlicing() {
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        RuntimeException negativeSize = assertThrows(RuntimeException.class, () -> repository.findAll(1, -1));
+        RuntimeException zeroSize = assertThrows(RuntimeException.class, () -> repository.findAll(1, 0, false));
+        RuntimeException zeroPage = assertThrows(RuntimeException.class, () -> repository.findAllSummaries(0, 10));
+        RuntimeException negativeCursorSize = assertThrows(RuntimeException.class, () -> repository.findAfter(null, -1));
+
+        assertAll(
+                () -> assertEquals("Page size must be greater than zero", negativeSize.getMessage()),
+                () -> assertEquals("Page size must be greater than zero", zeroSize.getMessage()),
+                () -> assertEquals("Page number cannot be less than one", zeroPage.getMessage()),
+                () -> assertEquals("Page size must be greater than zero", negativeCursorSize.getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("findAll with a query should follow books that change publisher or are deleted")
+    void findAllWithQuery_ShouldReflectWrites() {
+        PublisherEntity anagrama = new PublisherEntity(1L, "Anagrama", "anagrama");
+        InMemoryBookRepository repository = repositoryWith(3);
+        BookQuery byPublisher = BookQuery.builder().publisherId(1L).build();
+
+        repository.save(new BookEntity(2L, "9780000000002", "Título", "Title", null, null, BigDecimal.TEN, 0.0, null, LocalDate.of(2020, 1, 1), anagrama, List.of()));
+        repository.save(new BookEntity(3L, "9780000000003", "Título", "Title", null, null, BigDecimal.TEN, 0.0, null, LocalDate.of(2020, 1, 1), anagrama, List.of()));
+        List<Long> beforeWrites = ids(repository.findAll(byPublisher, 1, 10));
+        repository.save(bookEntity(2L, "9780000000002"));
+        repository.deleteByIsbn("9780000000003");
+
+        assertAll(
+                () -> assertEquals(List.of(2L, 3L), beforeWrites),
+                () -> assertEquals(List.of(), ids(repository.findAll(byPublisher, 1, 10)))
+        );
+    }
+
+    @Test
+    @DisplayName("countFacets should keep its counters up to date with every write")
+    void countFacets_ShouldFollowWrites() {
+        PublisherEntity anagrama = new PublisherEntity(1L, "Anagrama", "anagrama");
+        AuthorEntity borges = new AuthorEntity(1L, "Jorge Luis Borges", "Argentina", null, null, null, null, "jorge-luis-borges");
+        AuthorEntity bioy = new AuthorEntity(2L, "Adolfo Bioy Casares", "Argentina", null, null, null, null, "adolfo-bioy-casares");
+        InMemoryBookRepository repository = repositoryWith(3);
+
+        repository.save(new BookEntity(2L, "9780000000002", "Crónicas de Bustos Domecq", null, null, null, BigDecimal.TEN, 20.0, null, LocalDate.of(1967, 1, 1), anagrama, List.of(borges, bioy)));
+        repository.deleteByIsbn("9780000000003");
+        BookFacets all = repository.countFacets(BookQuery.all());
+        BookFacets byPublisher = repository.countFacets(BookQuery.builder().publisherId(1L).build());
+
+        assertAll(
+                () -> assertEquals(List.of(new BookFacets.FacetCount("anagrama", 1)), all.publishers()),
+                // Dos autores argentinos: el libro cuenta una vez en la nacionalidad
+                () -> assertEquals(List.of(new BookFacets.FacetCount("Argentina", 1)), all.nationalities()),
+                () -> assertEquals(List.of(new BookFacets.FacetCount("1960", 1), new BookFacets.FacetCount("2020", 1)), all.decades()),
+                () -> assertEquals(List.of(new BookFacets.FacetCount("NONE", 1), new BookFacets.FacetCount("UP_TO_25", 1)), all.discountBands()),
+                () -> assertEquals(List.of(new BookFacets.FacetCount("1960", 1)), byPublisher.decades()),
+                () -> assertEquals(2, byPublisher.authors().size())
+        );
+    }
+
+    @Test
+    @DisplayName("findAfter should walk the whole catalog with cursors")
+    void findAfter_ShouldWalkCatalog() {
+        InMemoryBookRepository repository = repositoryWith(25);
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookEntity> page = repository.findAfter(cursor, 10);
+            page.data().forEach(book -> ids.add(book.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(25, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("findAllByIsbns should skip unknown isbns")
+    void findAllByIsbns_ShouldSkipUnknown() {
+        InMemoryBookRepository repository = repositoryWith(5);
+
+        assertEquals(
+                List.of(2L, 4L),
+                repository.findAllByIsbns(List.of("9780000000002", "0000000000000", "9780000000004")).stream().map(BookEntity::id).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("Readers should always see consistent pages while a writer adds books")
+    void findAll_ShouldBeConsistentWithConcurrentWrites() throws Exception {
+        InMemoryBookRepository repository = repositoryWith(1_000);
+        try (ExecutorService executor = Executors.newFixedThreadPool(5)) {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    repository.save(bookEntity(null, String.format("999%010d", i)));
+                }
+            });
+            List<Future<Boolean>> readers = Stream.generate(() -> executor.submit(() -> {
+                boolean consistent = true;
+                for (int i = 0; i < 1_000; i++) {
+                    Page<BookEntity> page = repository.findAll(1, 100);
+                    consistent &= page.data().size() == 100 && page.totalElements() >= 1_000;
+                    consistent &= repository.findByIsbn("9780000000500").isPresent();
+                }
+                return consistent;
+            })).limit(4).toList();
+
+            writer.get();
+            for (Future<Boolean> reader : readers) {
+                assertTrue(reader.get());
+            }
+        }
+
+        assertEquals(2_000, repository.size());
+        assertEquals(2_000, repository.streamAll().count());
+    }
+
+    private static List<Long> ids(Page<BookEntity> page) {
+        return page.data().stream().map(BookEntity::id).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package es.cesguiro.domain.repository.memory;
+
+import es.cesguiro.data.loader.PublishersDataLoader;
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPublisherRepositoryTest {
+
+    private final List<PublisherEntity> publisherEntities = new PublishersDataLoader().loadPublisherEntitiesFromCSV();
+
+    @Test
+    @DisplayName("Publishers should be found by id, slug and list of ids")
+    void find_ShouldUseIndexes() {
+        InMemoryPublisherRepository repository = new InMemoryPublisherRepository(publisherEntities);
+        PublisherEntity publisher = publisherEntities.getFirst();
+
+        assertAll(
+                () -> assertEquals(Optional.of(publisher), repository.findById(publisher.id())),
+                () -> assertEquals(Optional.of(publisher), repository.findBySlug(publisher.slug())),
+                () -> assertEquals(List.of(publisher), repository.findAllByIds(List.of(publisher.id(), 999L))),
+                () -> assertEquals(Optional.empty(), repository.findBySlug(null)),
+                () -> assertTrue(repository.existsById(publisher.id())),
+                () -> assertFalse(repository.existsById(999L)),
+                () -> assertFalse(repository.existsById(null))
+        );
+    }
+
+    @Test
+    @DisplayName("save should assign an id and keep the slug index up to date")
+    void save_ShouldAssignIdAndReindexSlug() {
+        InMemoryPublisherRepository repository = new InMemoryPublisherRepository(publisherEntities);
+
+        PublisherEntity created = repository.save(new PublisherEntity(null, "Nueva Editorial", "nueva-editorial"));
+        repository.save(new PublisherEntity(created.id(), "Nueva Editorial", "editorial-renombrada"));
+
+        assertAll(
+                () -> assertEquals(publisherEntities.size() + 1L, created.id()),
+                () -> assertEquals(Optional.empty(), repository.findBySlug("nueva-editorial")),
+                () -> assertEquals(created.id(), repository.findBySlug("editorial-renombrada").orElseThrow().id()),
+                () -> assertThrows(BusinessException.class,
+                        () -> repository.save(new PublisherEntity(null, "Copia", publisherEntities.getFirst().slug())))
+        );
+    }
+}
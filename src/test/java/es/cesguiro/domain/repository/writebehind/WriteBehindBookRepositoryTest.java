@@ -0,0 +1,208 @@
+package es.cesguiro.domain.repository.writebehind;
+
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.exception.VersionConflictException;
+import es.cesguiro.domain.metrics.InMemoryMetricsRegistry;
+import es.cesguiro.domain.metrics.MetricsSnapshot;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindBookRepositoryTest {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+    private InMemoryBookRepository storage;
+    private WriteBehindBookRepository repository;
+
+    private static BookEntity bookEntity(Long id, String isbn, String basePrice) {
+        return new BookEntity(id, isbn, "Título", "Title", null, null, new BigDecimal(basePrice), 0.0, null, LocalDate.of(2020, 1, 1), null, List.of());
+    }
+
+    private void createRepository(int books, WriteBehindOptions options) {
+        List<BookEntity> bookEntities = new ArrayList<>();
+        for (long id = 1; id <= books; id++) {
+            bookEntities.add(bookEntity(id, String.format("978%010d", id), "10"));
+        }
+        storage = new InMemoryBookRepository(bookEntities);
+        repository = new WriteBehindBookRepository(storage, options, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Saves to the same id should be coalesced into a single write on flush")
+    void save_ShouldCoalesceSavesToTheSameId() {
+        createRepository(3, new WriteBehindOptions(100, Duration.ofHours(1)));
+
+        repository.save(bookEntity(1L, "9780000000001", "11"));
+        repository.save(bookEntity(1L, "9780000000001", "12"));
+        BookEntity last = repository.save(bookEntity(1L, "9780000000001", "13"));
+        repository.save(bookEntity(2L, "9780000000002", "20"));
+        int pendingBeforeFlush = repository.pendingWrites();
+        long pendingGaugeBeforeFlush = registry.snapshot().gauges().get("book.writebehind.pending");
+        BigDecimal storedBeforeFlush = storage.findById(1L).orElseThrow().basePrice();
+        repository.flush();
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertAll(
+                () -> assertEquals(2, pendingBeforeFlush),
+                () -> assertEquals(2L, pendingGaugeBeforeFlush),
+                () -> assertEquals(new BigDecimal("10"), storedBeforeFlush),
+                () -> assertEquals(1L, last.version()),
+                () -> assertEquals(0, repository.pendingWrites()),
+                () -> assertEquals(new BigDecimal("13"), storage.findById(1L).orElseThrow().basePrice()),
+                () -> assertEquals(1L, storage.findById(1L).orElseThrow().version()),
+                () -> assertEquals(new BigDecimal("20"), storage.findById(2L).orElseThrow().basePrice()),
+                () -> assertEquals(1, snapshot.timers().get("book.writebehind.flush").count()),
+                () -> assertEquals(2L, snapshot.counters().get("book.writebehind.coalesced")),
+                () -> assertEquals(2L, snapshot.counters().get("book.writebehind.flushed")),
+                () -> assertEquals(0L, snapshot.gauges().get("book.writebehind.pending"))
+        );
+    }
+
+    @Test
+    @DisplayName("Pending saves should be flushed when the batch size is reached")
+    void save_ShouldFlushWhenBatchIsFull() {
+        createRepository(3, new WriteBehindOptions(3, Duration.ofHours(1)));
+
+        repository.save(bookEntity(1L, "9780000000001", "11"));
+        repository.save(bookEntity(2L, "9780000000002", "12"));
+        int pendingBeforeLast = repository.pendingWrites();
+        repository.save(bookEntity(3L, "9780000000003", "13"));
+
+        assertAll(
+                () -> assertEquals(2, pendingBeforeLast),
+                () -> assertEquals(0, repository.pendingWrites()),
+                () -> assertEquals(new BigDecimal("13"), storage.findById(3L).orElseThrow().basePrice())
+        );
+    }
+
+    @Test
+    @DisplayName("Pending saves should be flushed once the maximum delay has elapsed")
+    void save_ShouldFlushAfterMaxDelay() throws InterruptedException {
+        createRepository(1, new WriteBehindOptions(100, Duration.ofMillis(10)));
+
+        repository.save(bookEntity(1L, "9780000000001", "11"));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (repository.pendingWrites() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(new BigDecimal("11"), storage.findById(1L).orElseThrow().basePrice());
+    }
+
+    @Test
+    @DisplayName("findById and findByIsbn should see pending saves, including ISBN changes")
+    void find_ShouldReadYourWrites() {
+        createRepository(2, new WriteBehindOptions(100, Duration.ofHours(1)));
+
+        BookEntity renamed = repository.save(bookEntity(1L, "9990000000001", "15"));
+
+        assertAll(
+                () -> assertEquals(Optional.of(renamed), repository.findById(1L)),
+                () -> assertEquals(Optional.of(renamed), repository.findByIsbn("9990000000001")),
+                () -> assertEquals(Optional.empty(), repository.findByIsbn("9780000000001")),
+                () -> assertTrue(repository.existsByIsbn("9990000000001")),
+                () -> assertFalse(repository.existsByIsbn("9780000000001")),
+                () -> assertTrue(repository.existsByIsbn("9780000000002")),
+                () -> assertEquals(List.of(renamed.isbn()),
+                        repository.findAllByIsbns(List.of("9990000000001", "9780000000001")).stream().map(BookEntity::isbn).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("existsByIsbn should not load any book while saves are queued")
+    void existsByIsbn_ShouldNotLoadBooks() {
+        createRepository(2, new WriteBehindOptions(100, Duration.ofHours(1)));
+        InMemoryBookRepository spiedStorage = spy(storage);
+        repository.close();
+        repository = new WriteBehindBookRepository(spiedStorage, new WriteBehindOptions(100, Duration.ofHours(1)), registry);
+        repository.save(bookEntity(1L, "9990000000001", "15"));
+
+        assertAll(
+                () -> assertTrue(repository.existsByIsbn("9990000000001")),
+                () -> assertFalse(repository.existsByIsbn("9780000000001")),
+                () -> assertTrue(repository.existsByIsbn("9780000000002")),
+                () -> assertFalse(repository.existsByIsbn("9780000000003"))
+        );
+        verify(spiedStorage, never()).findByIsbn(any());
+    }
+
+    @Test
+    @DisplayName("Versioned saves should flush the pending save and keep the compare-and-set")
+    void save_ShouldWriteVersionedSavesThrough() {
+        createRepository(1, new WriteBehindOptions(100, Duration.ofHours(1)));
+
+        BookEntity queued = repository.save(bookEntity(1L, "9780000000001", "11"));
+        BookEntity saved = repository.save(bookEntity(1L, "9780000000001", "12").withVersion(queued.version()));
+
+        assertAll(
+                () -> assertEquals(0, repository.pendingWrites()),
+                () -> assertEquals(2L, saved.version()),
+                () -> assertEquals(Optional.of(saved), storage.findById(1L)),
+                () -> assertThrows(VersionConflictException.class,
+                        () -> repository.save(bookEntity(1L, "9780000000001", "13").withVersion(queued.version())))
+        );
+    }
+
+    @Test
+    @DisplayName("Saves that fail on flush should be kept as failed writes and reported, without losing the rest of the batch")
+    void flush_ShouldKeepAndReportFailedWrites() {
+        createRepository(2, new WriteBehindOptions(100, Duration.ofHours(1)));
+        List<FailedWrite> reported = new ArrayList<>();
+        repository.setFailureListener(reported::add);
+
+        BookEntity clashing = repository.save(bookEntity(1L, "9780000000002", "11"));
+        repository.save(bookEntity(2L, "9780000000002", "22"));
+        repository.flush();
+        List<FailedWrite> failedWrites = repository.drainFailedWrites();
+
+        assertAll(
+                () -> assertEquals(1, reported.size()),
+                () -> assertEquals(reported, failedWrites),
+                () -> assertEquals(clashing, failedWrites.getFirst().book()),
+                () -> assertInstanceOf(BusinessException.class, failedWrites.getFirst().cause()),
+                () -> assertTrue(repository.drainFailedWrites().isEmpty()),
+                () -> assertEquals(0, repository.pendingWrites()),
+                () -> assertEquals(new BigDecimal("10"), repository.findById(1L).orElseThrow().basePrice()),
+                () -> assertEquals(new BigDecimal("22"), storage.findById(2L).orElseThrow().basePrice()),
+                () -> assertEquals(1L, registry.snapshot().counters().get("book.writebehind.failed")),
+                () -> assertEquals(1L, registry.snapshot().counters().get("book.writebehind.flushed"))
+        );
+    }
+
+    @Test
+    @DisplayName("New books and deletes should not be delayed")
+    void saveAndDelete_ShouldWriteThrough() {
+        createRepository(2, new WriteBehindOptions(100, Duration.ofHours(1)));
+
+        BookEntity created = repository.save(bookEntity(null, "9990000000000", "30"));
+        repository.save(bookEntity(2L, "9780000000002", "21"));
+        int deleted = repository.deleteByIsbn("9780000000002");
+
+        assertAll(
+                () -> assertEquals(Optional.of(created), storage.findById(3L)),
+                () -> assertEquals(1, deleted),
+                () -> assertEquals(0, repository.pendingWrites()),
+                () -> assertEquals(Optional.empty(), repository.findById(2L))
+        );
+    }
+}
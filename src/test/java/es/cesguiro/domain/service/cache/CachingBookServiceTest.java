@@ -0,0 +1,241 @@
+package es.cesguiro.domain.service.cache;
+
+import es.cesguiro.data.loader.BooksDataLoader;
+import es.cesguiro.domain.exception.ResourceNotFoundException;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBookServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    private MutableClock clock;
+    private CachingBookService cachingBookService;
+
+    private static List<BookDto> bookDtos;
+
+    @BeforeAll
+    static void setUp() {
+        bookDtos = new BooksDataLoader().loadBookDtosFromCSV();
+    }
+
+    @BeforeEach
+    void setUpCache() {
+        clock = new MutableClock();
+        cachingBookService = new CachingBookService(bookService, 2, Duration.ofMinutes(10), Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("findByIsbn should be served from cache after the first call")
+    void findByIsbn_ShouldBeServedFromCache() {
+        BookDto bookDto = bookDtos.getFirst();
+        when(bookService.findByIsbn(bookDto.isbn())).thenReturn(Optional.of(bookDto));
+
+        cachingBookService.findByIsbn(bookDto.isbn());
+        BookDto result = cachingBookService.getByIsbn(bookDto.isbn());
+
+        assertAll(
+                () -> assertEquals(bookDto, result),
+                () -> assertEquals(1, cachingBookService.stats().hitCount(), "Second call should be a hit"),
+                () -> assertEquals(1, cachingBookService.stats().missCount(), "First call should be a miss")
+        );
+        verify(bookService, times(1)).findByIsbn(bookDto.isbn());
+    }
+
+    @Test
+    @DisplayName("getByIsbn should cache misses and keep throwing ResourceNotFoundException")
+    void getByIsbn_ShouldCacheMisses() {
+        when(bookService.findByIsbn("non-existing-isbn")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> cachingBookService.getByIsbn("non-existing-isbn"));
+        assertThrows(ResourceNotFoundException.class, () -> cachingBookService.getByIsbn("non-existing-isbn"));
+
+        verify(bookService, times(1)).findByIsbn("non-existing-isbn");
+    }
+
+    @Test
+    @DisplayName("Entries should expire after their TTL")
+    void findByIsbn_ShouldReloadExpiredEntries() {
+        when(bookService.findByIsbn("non-existing-isbn")).thenReturn(Optional.empty());
+
+        cachingBookService.findByIsbn("non-existing-isbn");
+        clock.advance(Duration.ofSeconds(31));
+        cachingBookService.findByIsbn("non-existing-isbn");
+
+        verify(bookService, times(2)).findByIsbn("non-existing-isbn");
+        assertEquals(1, cachingBookService.stats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("Least recently used entry should be evicted when the cache is full")
+    void findByIsbn_ShouldEvictLeastRecentlyUsed() {
+        BookDto first = bookDtos.get(0);
+        BookDto second = bookDtos.get(1);
+        BookDto third = bookDtos.get(2);
+        when(bookService.findByIsbn(first.isbn())).thenReturn(Optional.of(first));
+        when(bookService.findByIsbn(second.isbn())).thenReturn(Optional.of(second));
+        when(bookService.findByIsbn(third.isbn())).thenReturn(Optional.of(third));
+
+        cachingBookService.findByIsbn(first.isbn());
+        cachingBookService.findByIsbn(second.isbn());
+        cachingBookService.findByIsbn(first.isbn());
+        cachingBookService.findByIsbn(third.isbn());
+        cachingBookService.findByIsbn(first.isbn());
+        cachingBookService.findByIsbn(second.isbn());
+
+        verify(bookService, times(1)).findByIsbn(first.isbn());
+        verify(bookService, times(2)).findByIsbn(second.isbn());
+        assertEquals(2, cachingBookService.stats().size());
+    }
+
+    @Test
+    @DisplayName("update should invalidate the previous ISBN of the book")
+    void update_ShouldInvalidatePreviousIsbn() {
+        BookDto bookDto = bookDtos.getFirst();
+        BookDto updatedBookDto = new BookDto(
+                bookDto.id(),
+                "9999999999999",
+                bookDto.titleEs(),
+                bookDto.titleEn(),
+                bookDto.synopsisEs(),
+                bookDto.synopsisEn(),
+                bookDto.basePrice(),
+                bookDto.discountPercentage(),
+                bookDto.price(),
+                bookDto.cover(),
+                bookDto.publicationDate(),
+                bookDto.publisher(),
+                bookDto.authors()
+        );
+        when(bookService.findByIsbn(bookDto.isbn())).thenReturn(Optional.of(bookDto)).thenReturn(Optional.empty());
+        when(bookService.findByIsbn(updatedBookDto.isbn())).thenReturn(Optional.empty()).thenReturn(Optional.of(updatedBookDto));
+        when(bookService.update(updatedBookDto)).thenReturn(updatedBookDto);
+
+        cachingBookService.findByIsbn(bookDto.isbn());
+        cachingBookService.findByIsbn(updatedBookDto.isbn());
+        cachingBookService.update(updatedBookDto);
+
+        assertAll(
+                () -> assertTrue(cachingBookService.findByIsbn(bookDto.isbn()).isEmpty(), "Old ISBN should be reloaded"),
+                () -> assertEquals(updatedBookDto, cachingBookService.findByIsbn(updatedBookDto.isbn()).orElseThrow(), "New ISBN should be reloaded")
+        );
+    }
+
+    @Test
+    @DisplayName("deleteByIsbn should invalidate the cached book")
+    void deleteByIsbn_ShouldInvalidateCachedBook() {
+        BookDto bookDto = bookDtos.getFirst();
+        when(bookService.findByIsbn(bookDto.isbn())).thenReturn(Optional.of(bookDto)).thenReturn(Optional.empty());
+
+        cachingBookService.findByIsbn(bookDto.isbn());
+        cachingBookService.deleteByIsbn(bookDto.isbn());
+
+        assertTrue(cachingBookService.findByIsbn(bookDto.isbn()).isEmpty());
+        verify(bookService).deleteByIsbn(bookDto.isbn());
+    }
+
+    @Test
+    @DisplayName("Invalidating another ISBN while a book is being loaded should not discard the load")
+    void findByIsbn_ShouldKeepLoadWhenAnotherIsbnIsInvalidated() {
+        BookDto first = bookDtos.get(0);
+        BookDto second = bookDtos.get(1);
+        when(bookService.findByIsbn(first.isbn())).thenAnswer(invocation -> {
+            cachingBookService.deleteByIsbn(second.isbn());
+            return Optional.of(first);
+        });
+
+        cachingBookService.findByIsbn(first.isbn());
+        cachingBookService.findByIsbn(first.isbn());
+
+        verify(bookService, times(1)).findByIsbn(first.isbn());
+        assertEquals(1, cachingBookService.stats().size());
+    }
+
+    @Test
+    @DisplayName("Updating a book while it is being loaded should discard the stale load")
+    void findByIsbn_ShouldDiscardLoadWhenTheBookIsUpdated() {
+        BookDto bookDto = bookDtos.getFirst();
+        when(bookService.update(bookDto)).thenReturn(bookDto);
+        when(bookService.findByIsbn("9999999999999"))
+                .thenAnswer(invocation -> {
+                    cachingBookService.update(bookDto);
+                    return Optional.of(bookDto);
+                })
+                .thenReturn(Optional.empty());
+
+        Optional<BookDto> stale = cachingBookService.findByIsbn("9999999999999");
+        Optional<BookDto> reloaded = cachingBookService.findByIsbn("9999999999999");
+
+        assertAll(
+                () -> assertEquals(Optional.of(bookDto), stale),
+                () -> assertTrue(reloaded.isEmpty(), "Load started before the update should not be cached")
+        );
+        verify(bookService, times(2)).findByIsbn("9999999999999");
+    }
+
+    @Test
+    @DisplayName("A failed load should not leave anything cached")
+    void findByIsbn_ShouldNotCacheFailedLoads() {
+        BookDto bookDto = bookDtos.getFirst();
+        when(bookService.findByIsbn(bookDto.isbn()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(Optional.of(bookDto));
+
+        assertThrows(IllegalStateException.class, () -> cachingBookService.findByIsbn(bookDto.isbn()));
+        long sizeAfterFailure = cachingBookService.stats().size();
+        Optional<BookDto> result = cachingBookService.findByIsbn(bookDto.isbn());
+
+        assertAll(
+                () -> assertEquals(0L, sizeAfterFailure),
+                () -> assertEquals(Optional.of(bookDto), result),
+                () -> assertEquals(Optional.of(bookDto), cachingBookService.findByIsbn(bookDto.isbn()))
+        );
+        verify(bookService, times(2)).findByIsbn(bookDto.isbn());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
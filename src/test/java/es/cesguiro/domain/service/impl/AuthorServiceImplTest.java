@@ -1,6 +1,9 @@
 package es.cesguiro.domain.service.impl;
 
+import es.cesguiro.domain.exception.BusinessException;
+import es.cesguiro.domain.exception.ResourceNotFoundException;
 import es.cesguiro.domain.repository.AuthorRepository;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.service.dto.AuthorDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +13,12 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,9 +59,48 @@ class AuthorServiceImplTest {
         );
     }
 
+    @Test
+    @DisplayName("getBySlug should return the author with that slug")
+    void getBySlug_ShouldReturnAuthorDto() {
+        AuthorEntity authorEntity = new AuthorEntity(1L, "Gabriel García Márquez", "Colombian", "BioEs", "BioEn", 1927, 2014, "gabriel-garcia-marquez");
+        when(authorRepository.findBySlug("gabriel-garcia-marquez")).thenReturn(Optional.of(authorEntity));
+
+        AuthorDto authorDto = authorServiceImpl.getBySlug("gabriel-garcia-marquez");
+
+        assertAll(
+                () -> assertEquals(authorEntity.id(), authorDto.id()),
+                () -> assertEquals(authorEntity.name(), authorDto.name())
+        );
+    }
+
+    @Test
+    @DisplayName("getBySlug should throw ResourceNotFoundException when the author does not exist")
+    void getBySlug_ShouldThrowException_WhenAuthorDoesNotExist() {
+        when(authorRepository.findBySlug("non-existing")).thenReturn(Optional.empty());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> authorServiceImpl.getBySlug("non-existing"));
+        assertEquals("Author with slug non-existing not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getBySlug should not query the repository when the slug is malformed")
+    void getBySlug_ShouldNotQueryRepository_WhenSlugIsMalformed() {
+        assertThrows(ResourceNotFoundException.class, () -> authorServiceImpl.getBySlug("García Márquez"));
+        verifyNoInteractions(authorRepository);
+    }
+
     // Test create Author with null AuthorDto
 
-    // Test create Author with existing slug
+    @Test
+    @DisplayName("create should throw BusinessException when the slug already exists")
+    void create_ShouldThrowException_WhenSlugAlreadyExists() {
+        AuthorDto authorDto = new AuthorDto(null, "author1", "nationality1", "BioEs", "BioEn", 1970, null, "slug1");
+        when(authorRepository.existsBySlug("slug1")).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> authorServiceImpl.create(authorDto));
+        assertEquals("Author with slug slug1 already exists", exception.getMessage());
+        verify(authorRepository, never()).save(Mockito.any());
+    }
 
     // ....
 
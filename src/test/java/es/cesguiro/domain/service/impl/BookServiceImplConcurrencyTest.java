@@ -0,0 +1,103 @@
+package es.cesguiro.domain.service.impl;
+
+import es.cesguiro.benchmark.data.CatalogGenerator;
+import es.cesguiro.domain.mapper.AuthorMapper;
+import es.cesguiro.domain.mapper.BookMapper;
+import es.cesguiro.domain.mapper.PublisherMapper;
+import es.cesguiro.domain.model.Page;
+import es.cesguiro.domain.repository.memory.InMemoryAuthorRepository;
+import es.cesguiro.domain.repository.memory.InMemoryBookRepository;
+import es.cesguiro.domain.repository.memory.InMemoryPublisherRepository;
+import es.cesguiro.domain.service.BookService;
+import es.cesguiro.domain.service.dto.BookDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookServiceImplConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 200;
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+
+    @Test
+    @DisplayName("Parallel getAll calls should return the same pages as sequential calls")
+    void getAll_ShouldBeCorrectUnderConcurrency() throws Exception {
+        CatalogGenerator.Catalog catalog = new CatalogGenerator(7L).generate(PAGES * PAGE_SIZE, 100, 10, 3);
+        BookService bookService = new BookServiceImpl(
+                new InMemoryBookRepository(catalog.books()),
+                new InMemoryPublisherRepository(catalog.publishers()),
+                new InMemoryAuthorRepository(catalog.authors())
+        );
+        List<Page<BookDto>> expected = IntStream.rangeClosed(1, PAGES)
+                .mapToObj(page -> bookService.getAll(page, PAGE_SIZE))
+                .toList();
+
+        List<Integer> mismatches = runInParallel(() -> {
+            int count = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                int page = i % PAGES + 1;
+                if (!expected.get(page - 1).equals(bookService.getAll(page, PAGE_SIZE))) {
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        assertAll(
+                () -> assertEquals(THREADS, mismatches.size(), "Every thread should finish"),
+                () -> assertTrue(mismatches.stream().allMatch(count -> count == 0), "Every page should match")
+        );
+    }
+
+    @Test
+    @DisplayName("Mappers should be a single instance for every thread")
+    void getInstance_ShouldReturnSameInstanceUnderConcurrency() throws Exception {
+        Set<Object> instances = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        runInParallel(() -> {
+            instances.add(BookMapper.getInstance());
+            instances.add(AuthorMapper.getInstance());
+            instances.add(PublisherMapper.getInstance());
+            return 0;
+        });
+
+        assertEquals(3, instances.size(), "There should be one instance per mapper");
+    }
+
+    private static <T> List<T> runInParallel(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
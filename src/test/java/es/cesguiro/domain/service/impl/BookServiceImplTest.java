@@ -6,16 +6,29 @@ import es.cesguiro.data.loader.PublishersDataLoader;
 import es.cesguiro.domain.exception.BusinessException;
 import es.cesguiro.domain.exception.ResourceNotFoundException;
 import es.cesguiro.domain.exception.ValidationException;
+import es.cesguiro.domain.exception.VersionConflictException;
+import es.cesguiro.domain.metrics.InMemoryMetricsRegistry;
+import es.cesguiro.domain.metrics.MetricsSnapshot;
 import es.cesguiro.domain.model.Book;
+import es.cesguiro.domain.model.BookCursor;
+import es.cesguiro.domain.model.BookFacets;
+import es.cesguiro.domain.model.BookQuery;
+import es.cesguiro.domain.model.CursorPage;
+import es.cesguiro.domain.model.FacetedPage;
 import es.cesguiro.domain.model.Page;
 import es.cesguiro.domain.repository.AuthorRepository;
 import es.cesguiro.domain.repository.BookRepository;
 import es.cesguiro.domain.repository.PublisherRepository;
 import es.cesguiro.domain.repository.entity.AuthorEntity;
 import es.cesguiro.domain.repository.entity.BookEntity;
+import es.cesguiro.domain.repository.entity.BookSummaryEntity;
 import es.cesguiro.domain.repository.entity.PublisherEntity;
 import es.cesguiro.domain.service.dto.AuthorDto;
 import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.BookImportReport;
+import es.cesguiro.domain.service.dto.BookImportResult;
+import es.cesguiro.domain.service.dto.BookProjection;
+import es.cesguiro.domain.service.dto.BookSummaryDto;
 import es.cesguiro.domain.service.dto.PublisherDto;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -29,12 +42,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -100,6 +123,157 @@ class BookServiceImplTest {
         );
     }
 
+    @Test
+    @DisplayName("getAll without total should not report total elements")
+    void getAll_WithoutTotal_ShouldNotReportTotalElements() {
+        when(bookRepository.findAll(2, 3, false)).thenReturn(Page.withoutTotal(bookEntities.subList(3, 6), 2, 3));
+
+        Page<BookDto> result = bookServiceImpl.getAll(2, 3, false);
+
+        assertAll(
+                () -> assertEquals(3, result.data().size(), "Number of books should match"),
+                () -> assertEquals(bookDtos.get(3).isbn(), result.data().getFirst().isbn(), "First book ISBN should match"),
+                () -> assertFalse(result.hasTotal(), "Page should not have total"),
+                () -> assertEquals(-1, result.totalElements(), "Total elements should be unknown")
+        );
+        verify(bookRepository, never()).findAll(2, 3);
+    }
+
+    @Test
+    @DisplayName("getAll with the summary projection should map the page without synopses")
+    void getAll_SummaryProjection_ShouldOmitSynopses() {
+        when(bookRepository.findAll(1, 3)).thenReturn(new Page<>(bookEntities.subList(0, 3), 1, 3, 9));
+
+        Page<BookDto> result = bookServiceImpl.getAll(1, 3, BookProjection.SUMMARY);
+
+        assertAll(
+                () -> assertEquals(List.of(bookDtos.get(0).isbn(), bookDtos.get(1).isbn(), bookDtos.get(2).isbn()), result.data().stream().map(BookDto::isbn).toList()),
+                () -> assertEquals(9, result.totalElements()),
+                () -> assertTrue(result.data().stream().allMatch(bookDto -> bookDto.synopsisEs() == null && bookDto.synopsisEn() == null))
+        );
+    }
+
+    @Test
+    @DisplayName("getSummaries should map the repository summary page")
+    void getSummaries_ShouldMapRepositoryProjection() {
+        BookSummaryEntity summary = new BookSummaryEntity(1L, "9780000000001", "Ficciones", "Fictions", new BigDecimal("10.00"), "cover.jpg", "Anagrama", List.of("Jorge Luis Borges"));
+        when(bookRepository.findAllSummaries(2, 1)).thenReturn(new Page<>(List.of(summary), 2, 1, 5));
+
+        Page<BookSummaryDto> result = bookServiceImpl.getSummaries(2, 1);
+
+        assertAll(
+                () -> assertEquals(List.of(new BookSummaryDto(1L, "9780000000001", "Ficciones", "Fictions", new BigDecimal("10.00"), "cover.jpg", "Anagrama", List.of("Jorge Luis Borges"))), result.data()),
+                () -> assertEquals(2, result.pageNumber()),
+                () -> assertEquals(5, result.totalElements())
+        );
+        verify(bookRepository, never()).findAll(2, 1);
+    }
+
+    @Test
+    @DisplayName("getAll with a query should pass the query to the repository and map the page")
+    void getAllWithQuery_ShouldDelegateToRepository() {
+        BookQuery query = BookQuery.builder()
+                .publisherSlug(publisherEntities.getFirst().slug())
+                .orderBy(BookQuery.SortKey.PRICE, BookQuery.Direction.DESC)
+                .build();
+        when(bookRepository.findAll(query, 1, 3)).thenReturn(new Page<>(bookEntities.subList(0, 2), 1, 3, 2));
+
+        Page<BookDto> result = bookServiceImpl.getAll(query, 1, 3);
+
+        assertAll(
+                () -> assertEquals(List.of(bookDtos.get(0).isbn(), bookDtos.get(1).isbn()), result.data().stream().map(BookDto::isbn).toList()),
+                () -> assertEquals(2, result.totalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("getAll with a malformed slug should return an empty page without querying the repository")
+    void getAllWithQuery_MalformedSlug_ShouldNotQuery() {
+        Page<BookDto> result = bookServiceImpl.getAll(BookQuery.builder().authorSlug("Not a slug").build(), 1, 10);
+
+        assertAll(
+                () -> assertTrue(result.data().isEmpty()),
+                () -> assertEquals(0, result.totalElements())
+        );
+        verify(bookRepository, never()).findAll(any(BookQuery.class), any(Integer.class), any(Integer.class));
+    }
+
+    @Test
+    @DisplayName("getAll with a query should time slug validation and mapping separately")
+    void getAllWithQuery_ShouldTimeValidationAndMapping() {
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        bookServiceImpl.setMetricsRegistry(metricsRegistry);
+        BookQuery query = BookQuery.builder().publisherSlug(publisherEntities.getFirst().slug()).build();
+        when(bookRepository.findAll(query, 1, 3)).thenReturn(new Page<>(bookEntities.subList(0, 2), 1, 3, 2));
+
+        bookServiceImpl.getAll(query, 1, 3);
+        bookServiceImpl.getAll(BookQuery.builder().authorSlug("Not a slug").build(), 1, 3);
+        MetricsSnapshot snapshot = metricsRegistry.snapshot();
+
+        assertAll(
+                () -> assertEquals(2, snapshot.timers().get("book.service.validation").count()),
+                () -> assertEquals(1, snapshot.timers().get("book.service.mapping").count())
+        );
+    }
+
+    @Test
+    @DisplayName("getAllWithFacets should return the filtered page and the repository facet counts")
+    void getAllWithFacets_ShouldCombinePageAndFacets() {
+        BookQuery query = BookQuery.builder().publisherId(publisherEntities.getFirst().id()).build();
+        BookFacets facets = new BookFacets(List.of(new BookFacets.FacetCount(publisherEntities.getFirst().slug(), 2)), List.of(), List.of(), List.of(), List.of());
+        when(bookRepository.findAll(query, 1, 10)).thenReturn(new Page<>(bookEntities.subList(0, 2), 1, 10, 2));
+        when(bookRepository.countFacets(query)).thenReturn(facets);
+
+        FacetedPage<BookDto> result = bookServiceImpl.getAllWithFacets(query, 1, 10);
+
+        assertAll(
+                () -> assertEquals(2, result.page().data().size()),
+                () -> assertEquals(facets, result.facets())
+        );
+    }
+
+    @Test
+    @DisplayName("getAfter should map the cursor page and keep the next cursor")
+    void getAfter_ShouldReturnCursorPage() {
+        String cursor = BookCursor.encode(3L);
+        String nextCursor = BookCursor.encode(5L);
+        when(bookRepository.findAfter(cursor, 2)).thenReturn(new CursorPage<>(bookEntities.subList(3, 5), 2, nextCursor));
+
+        CursorPage<BookDto> result = bookServiceImpl.getAfter(cursor, 2);
+
+        assertAll(
+                () -> assertEquals(2, result.data().size(), "Number of books should match"),
+                () -> assertEquals(bookDtos.get(3).isbn(), result.data().getFirst().isbn(), "First book ISBN should match"),
+                () -> assertEquals(nextCursor, result.nextCursor(), "Next cursor should match"),
+                () -> assertTrue(result.hasNext(), "Page should have next")
+        );
+    }
+
+    @Test
+    @DisplayName("streamAll should map books lazily and close the repository stream")
+    void streamAll_ShouldMapLazilyAndCloseRepositoryStream() {
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        bookServiceImpl.setMetricsRegistry(metricsRegistry);
+        AtomicInteger readBooks = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookRepository.streamAll()).thenReturn(bookEntities.stream()
+                .peek(bookEntity -> readBooks.incrementAndGet())
+                .onClose(() -> closed.set(true)));
+
+        List<BookDto> result;
+        try (Stream<BookDto> books = bookServiceImpl.streamAll()) {
+            result = books.limit(2).toList();
+        }
+
+        assertAll(
+                () -> assertEquals(2, result.size(), "Number of books should match"),
+                () -> assertEquals(bookDtos.getFirst().isbn(), result.getFirst().isbn(), "First book ISBN should match"),
+                () -> assertEquals(2, readBooks.get(), "Only the consumed books should be read"),
+                () -> assertTrue(closed.get(), "Repository stream should be closed"),
+                () -> assertEquals(2, metricsRegistry.snapshot().timers().get("book.service.mapping").count(), "Each streamed book should be timed")
+        );
+    }
+
     // test getByIsbn when book exists
     @Test
     @DisplayName("getByIsbn should return book when it exists")
@@ -233,9 +407,8 @@ class BookServiceImplTest {
 
         when(bookRepository.save(newBookEntity)).thenReturn(bookEntityCreated);
         when(publisherRepository.findById(1L)).thenReturn(Optional.of(publisherEntities.getFirst()));
-        when(authorRepository.findById(1L)).thenReturn(Optional.of(authorEntities.getFirst()));
-        when(authorRepository.findById(2L)).thenReturn(Optional.of(authorEntities.get(1)));
-        when(bookRepository.findByIsbn(newBookDto.isbn())).thenReturn(Optional.empty());
+        when(authorRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(authorEntities.getFirst(), authorEntities.get(1)));
+        when(bookRepository.existsByIsbn(newBookDto.isbn())).thenReturn(false);
 
         BookDto createdBook = bookServiceImpl.create(newBookDto);
 
@@ -253,9 +426,10 @@ class BookServiceImplTest {
         BookDto existingBookDto = bookDtos.getFirst();
         BookEntity existingBookEntity = bookEntities.getFirst();
 
-        when(bookRepository.findByIsbn(existingBookDto.isbn())).thenReturn(Optional.of(existingBookEntity));
+        when(bookRepository.existsByIsbn(existingBookDto.isbn())).thenReturn(true);
 
         assertThrows(BusinessException.class, () -> bookServiceImpl.create(existingBookDto));
+        verify(bookRepository, never()).findByIsbn(any());
     }
 
 
@@ -280,7 +454,7 @@ class BookServiceImplTest {
                 List.of(authorDtos.getFirst())
         );
 
-        when(bookRepository.findByIsbn(bookDtoWithNonExistingPublisher.isbn())).thenReturn(Optional.empty());
+        when(bookRepository.existsByIsbn(bookDtoWithNonExistingPublisher.isbn())).thenReturn(false);
         when(publisherRepository.findById(nonExistingPublisher.id())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.create(bookDtoWithNonExistingPublisher));
@@ -315,12 +489,43 @@ class BookServiceImplTest {
                 List.of(authorDtos.getFirst(), nonExistingAuthor)
         );
 
-        when(bookRepository.findByIsbn(bookDtoWithNonExistingAuthor.isbn())).thenReturn(Optional.empty());
+        when(bookRepository.existsByIsbn(bookDtoWithNonExistingAuthor.isbn())).thenReturn(false);
         when(publisherRepository.findById(publisherDtos.getFirst().id())).thenReturn(Optional.of(publisherEntities.getFirst()));
-        when(authorRepository.findById(authorDtos.getFirst().id())).thenReturn(Optional.of(authorEntities.getFirst()));
-        when(authorRepository.findById(nonExistingAuthor.id())).thenReturn(Optional.empty());
+        when(authorRepository.findAllByIds(Set.of(authorDtos.getFirst().id(), nonExistingAuthor.id())))
+                .thenReturn(List.of(authorEntities.getFirst()));
 
-        assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.create(bookDtoWithNonExistingAuthor));
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.create(bookDtoWithNonExistingAuthor));
+        assertEquals("Authors with ids [99] do not exist", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("createBook should report every missing author in a single exception")
+    void createBook_ShouldReportAllMissingAuthors() {
+        AuthorDto firstNonExistingAuthor = new AuthorDto(98L, "Non existing Author", null, null, null, null, null, "non-existing-author");
+        AuthorDto secondNonExistingAuthor = new AuthorDto(99L, "Another non existing Author", null, null, null, null, null, "another-non-existing-author");
+        BookDto bookDtoWithNonExistingAuthors = new BookDto(
+                null,
+                "9999999999999",
+                "Book Title ES",
+                "Book Title EN",
+                "Book Synopsis ES",
+                "Book Synopsis EN",
+                new BigDecimal("19.99"),
+                10.0,
+                null,
+                "http://example.com/bookcover.jpg",
+                LocalDate.of(2024, 1, 1),
+                null,
+                List.of(firstNonExistingAuthor, authorDtos.getFirst(), secondNonExistingAuthor)
+        );
+
+        when(bookRepository.existsByIsbn(bookDtoWithNonExistingAuthors.isbn())).thenReturn(false);
+        when(authorRepository.findAllByIds(Set.of(98L, authorDtos.getFirst().id(), 99L)))
+                .thenReturn(List.of(authorEntities.getFirst()));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.create(bookDtoWithNonExistingAuthors));
+        assertEquals("Authors with ids [98, 99] do not exist", exception.getMessage());
+        verify(authorRepository, never()).findById(any());
     }
 
 
@@ -359,13 +564,10 @@ class BookServiceImplTest {
                 existingBookDto.authors()
         );
 
-        when(bookRepository.findById(existingBookDto.id())).thenReturn(Optional.of(existingBookEntity));
+        when(bookRepository.existsById(existingBookDto.id())).thenReturn(true);
         when(bookRepository.save(updatedBookEntity)).thenReturn(updatedBookEntity);
         when(publisherRepository.findById(existingBookDto.publisher().id())).thenReturn(Optional.of(publisherEntities.getFirst()));
-        when(authorRepository.findById(existingBookDto.authors().get(0).id())).thenReturn(Optional.of(authorEntities.getFirst()));
-        if (existingBookDto.authors().size() > 1) {
-            when(authorRepository.findById(existingBookDto.authors().get(1).id())).thenReturn(Optional.of(authorEntities.get(1)));
-        }
+        when(authorRepository.findAllByIds(Set.of(existingBookDto.authors().getFirst().id()))).thenReturn(List.of(authorEntities.getFirst()));
         BookDto result = bookServiceImpl.update(expectedUpdatedBookDto);
         assertAll(
                 () -> assertNotNull(result, "Result should not be null"),
@@ -392,10 +594,51 @@ class BookServiceImplTest {
                 publisherDtos.getFirst(),
                 List.of(authorDtos.getFirst())
         );
-        when(bookRepository.findById(nonExistingBookDto.id())).thenReturn(Optional.empty());
+        when(bookRepository.existsById(nonExistingBookDto.id())).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.update(nonExistingBookDto));
     }
 
+    @Test
+    @DisplayName("updateBook should propagate the version conflict detected by the repository save")
+    void updateBook_ShouldThrowVersionConflict_WhenVersionIsStale() {
+        BookDto existingBookDto = bookDtos.getFirst();
+        BookDto staleBookDto = new BookDto(existingBookDto.id(), existingBookDto.isbn(), "Título editado", existingBookDto.titleEn(),
+                existingBookDto.synopsisEs(), existingBookDto.synopsisEn(), existingBookDto.basePrice(), existingBookDto.discountPercentage(),
+                null, existingBookDto.cover(), existingBookDto.publicationDate(), existingBookDto.publisher(), existingBookDto.authors(), 3L);
+        when(bookRepository.existsById(existingBookDto.id())).thenReturn(true);
+        when(publisherRepository.findById(existingBookDto.publisher().id())).thenReturn(Optional.of(publisherEntities.getFirst()));
+        when(authorRepository.findAllByIds(Set.of(existingBookDto.authors().getFirst().id()))).thenReturn(List.of(authorEntities.getFirst()));
+        when(bookRepository.save(any())).thenThrow(new VersionConflictException(existingBookDto.id(), 3L, 4L));
+
+        VersionConflictException exception = assertThrows(VersionConflictException.class, () -> bookServiceImpl.update(staleBookDto));
+
+        assertAll(
+                () -> assertEquals(3L, exception.getExpectedVersion()),
+                () -> assertEquals(4L, exception.getActualVersion())
+        );
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("deleteByIsbn should delete without reading the book first")
+    void deleteByIsbn_ShouldDeleteWithoutReadingTheBook() {
+        String isbn = bookEntities.getFirst().isbn();
+        when(bookRepository.deleteByIsbn(isbn)).thenReturn(1);
+
+        bookServiceImpl.deleteByIsbn(isbn);
+
+        verify(bookRepository).deleteByIsbn(isbn);
+        verify(bookRepository, never()).findByIsbn(any());
+    }
+
+    @Test
+    @DisplayName("deleteByIsbn should throw exception when no book was deleted")
+    void deleteByIsbn_ShouldThrowException_WhenBookDoesNotExist() {
+        when(bookRepository.deleteByIsbn("9999999999999")).thenReturn(0);
+
+        assertThrows(BusinessException.class, () -> bookServiceImpl.deleteByIsbn("9999999999999"));
+    }
+
     @Test
     @DisplayName("updateBook should throw exception when updating to an existing ISBN")
     void updateBook_ShouldThrowException_WhenUpdatingToExistingIsbn() {
@@ -418,10 +661,337 @@ class BookServiceImplTest {
                 existingBookDto.authors()
         );
 
-        when(bookRepository.findById(existingBookDto.id())).thenReturn(Optional.of(existingBookEntity));
+        when(bookRepository.existsById(existingBookDto.id())).thenReturn(true);
         when(bookRepository.findByIsbn(anotherExistingBookEntity.isbn())).thenReturn(Optional.of(anotherExistingBookEntity));
         assertThrows(BusinessException.class, () -> bookServiceImpl.update(bookDtoWithExistingIsbn));
     }
 
+    private static BookDto newBookDto(String isbn, PublisherDto publisherDto, List<AuthorDto> authorDtos) {
+        return new BookDto(
+                null,
+                isbn,
+                "Imported Title ES",
+                "Imported Title EN",
+                "Imported Synopsis ES",
+                "Imported Synopsis EN",
+                new BigDecimal("19.99"),
+                10.0,
+                null,
+                "http://example.com/imported.jpg",
+                LocalDate.of(2024, 1, 1),
+                publisherDto,
+                authorDtos
+        );
+    }
+
+    private static BookDto withId(BookDto bookDto, Long id) {
+        return new BookDto(
+                id,
+                bookDto.isbn(),
+                bookDto.titleEs(),
+                bookDto.titleEn(),
+                bookDto.synopsisEs(),
+                bookDto.synopsisEn(),
+                bookDto.basePrice(),
+                bookDto.discountPercentage(),
+                null,
+                bookDto.cover(),
+                bookDto.publicationDate(),
+                bookDto.publisher(),
+                bookDto.authors()
+        );
+    }
+
+    private void mockBulkLookups() {
+        when(publisherRepository.findAllByIds(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return publisherEntities.stream().filter(publisher -> ids.contains(publisher.id())).toList();
+        });
+        when(authorRepository.findAllByIds(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return authorEntities.stream().filter(author -> ids.contains(author.id())).toList();
+        });
+        when(bookRepository.findAllByIsbns(any())).thenAnswer(invocation -> {
+            Collection<String> isbns = invocation.getArgument(0);
+            return bookEntities.stream().filter(book -> isbns.contains(book.isbn())).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("createAll should report the result of every row")
+    void createAll_ShouldReportEveryRow() {
+        AuthorDto nonExistingAuthor = new AuthorDto(99L, "Non existing Author", null, null, null, null, null, "non-existing-author");
+        List<BookDto> feed = List.of(
+                newBookDto("9999999999991", publisherDtos.getFirst(), List.of(authorDtos.getFirst())),
+                newBookDto("123", publisherDtos.getFirst(), List.of()),
+                newBookDto("9999999999991", null, List.of()),
+                newBookDto(bookDtos.getFirst().isbn(), null, List.of()),
+                newBookDto("9999999999992", null, List.of(authorDtos.getFirst(), nonExistingAuthor)),
+                newBookDto("9999999999993", publisherDtos.get(1), List.of(authorDtos.get(1)))
+        );
+        mockBulkLookups();
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        bookServiceImpl.setImportBatchSize(2);
+
+        BookImportReport report = bookServiceImpl.createAll(feed.stream());
+
+        assertAll(
+                () -> assertEquals(6, report.results().size(), "Every row should be reported"),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(0).status()),
+                () -> assertEquals(BookImportResult.Status.INVALID, report.results().get(1).status()),
+                () -> assertEquals(BookImportResult.Status.DUPLICATED, report.results().get(2).status()),
+                () -> assertEquals(BookImportResult.Status.ALREADY_EXISTS, report.results().get(3).status()),
+                () -> assertEquals(BookImportResult.Status.NOT_FOUND, report.results().get(4).status()),
+                () -> assertEquals("Authors with ids [99] do not exist", report.results().get(4).message()),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(5).status()),
+                () -> assertEquals(2, report.successCount(), "Two books should be created"),
+                () -> assertTrue(report.hasErrors(), "Report should have errors")
+        );
+        verify(bookRepository, never()).save(any());
+        verify(authorRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("createAll should reject rows that come with an id")
+    void createAll_ShouldRejectRowsWithId() {
+        BookDto newBookDto = newBookDto("9999999999991", null, List.of());
+        BookDto bookDtoWithId = new BookDto(
+                99L,
+                newBookDto.isbn(),
+                newBookDto.titleEs(),
+                newBookDto.titleEn(),
+                newBookDto.synopsisEs(),
+                newBookDto.synopsisEn(),
+                newBookDto.basePrice(),
+                newBookDto.discountPercentage(),
+                null,
+                newBookDto.cover(),
+                newBookDto.publicationDate(),
+                null,
+                List.of()
+        );
+
+        BookImportReport report = bookServiceImpl.createAll(Stream.of(bookDtoWithId));
+
+        assertAll(
+                () -> assertEquals(BookImportResult.Status.INVALID, report.results().getFirst().status()),
+                () -> assertTrue(report.results().getFirst().message().contains("El id debe ser nulo al crear"))
+        );
+        verify(bookRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("upsertAll should reject rows whose id is not the id of the book with that ISBN")
+    void upsertAll_ShouldRejectRowsWithMismatchedId() {
+        BookDto newBookDto = newBookDto("9999999999991", null, List.of());
+        BookDto existingBookDto = bookDtos.getFirst();
+        mockBulkLookups();
+
+        BookImportReport report = bookServiceImpl.upsertAll(Stream.of(
+                withId(newBookDto, 99L),
+                withId(existingBookDto, bookEntities.get(1).id())
+        ));
+
+        assertAll(
+                () -> assertEquals(BookImportResult.Status.INVALID, report.results().get(0).status()),
+                () -> assertEquals("Id 99 does not match the book with isbn 9999999999991", report.results().get(0).message()),
+                () -> assertEquals(BookImportResult.Status.INVALID, report.results().get(1).status()),
+                () -> assertEquals(0, report.successCount())
+        );
+        verify(bookRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("createAll should not report a row as duplicated when the earlier row with its ISBN was not saved")
+    void createAll_ShouldAcceptIsbnOfRejectedRow() {
+        AuthorDto nonExistingAuthor = new AuthorDto(99L, "Non existing Author", null, null, null, null, null, "non-existing-author");
+        when(bookRepository.findAllByIsbns(any())).thenReturn(List.of());
+        when(authorRepository.findAllByIds(any())).thenReturn(List.of(authorEntities.getFirst()));
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BookImportReport report = bookServiceImpl.createAll(Stream.of(
+                newBookDto("9999999999991", null, List.of(nonExistingAuthor)),
+                newBookDto("9999999999991", null, List.of(authorDtos.getFirst())),
+                newBookDto("9999999999991", null, List.of())
+        ));
+
+        assertAll(
+                () -> assertEquals(BookImportResult.Status.NOT_FOUND, report.results().get(0).status()),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(1).status()),
+                () -> assertEquals(BookImportResult.Status.DUPLICATED, report.results().get(2).status())
+        );
+    }
+
+    @Test
+    @DisplayName("createAll should retry a failed batch row by row and keep importing the next batches")
+    void createAll_ShouldRetryFailedBatchRowByRow() {
+        BookDto failingBookDto = newBookDto("9999999999992", null, List.of());
+        when(bookRepository.findAllByIsbns(any())).thenReturn(List.of());
+        when(bookRepository.saveAll(any()))
+                .thenThrow(new BusinessException("Batch rejected"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookRepository.save(any())).thenAnswer(invocation -> {
+            BookEntity bookEntity = invocation.getArgument(0);
+            if (bookEntity.isbn().equals(failingBookDto.isbn())) {
+                throw new BusinessException("Book with isbn " + failingBookDto.isbn() + " could not be saved");
+            }
+            return bookEntity;
+        });
+        bookServiceImpl.setImportBatchSize(2);
+
+        BookImportReport report = bookServiceImpl.createAll(Stream.of(
+                newBookDto("9999999999991", null, List.of()),
+                failingBookDto,
+                newBookDto("9999999999993", null, List.of())
+        ));
+
+        assertAll(
+                () -> assertEquals(3, report.results().size(), "Every row should be reported"),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(0).status()),
+                () -> assertEquals(BookImportResult.Status.FAILED, report.results().get(1).status()),
+                () -> assertEquals("Book with isbn 9999999999992 could not be saved", report.results().get(1).message()),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(2).status()),
+                () -> assertEquals(2, report.successCount())
+        );
+        verify(bookRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("upsertAll should update existing books and create new ones in one batch")
+    void upsertAll_ShouldUpdateExistingAndCreateNewBooks() {
+        BookDto existingBookDto = bookDtos.getFirst();
+        BookDto changedBookDto = new BookDto(
+                null,
+                existingBookDto.isbn(),
+                "Updated Title ES",
+                existingBookDto.titleEn(),
+                existingBookDto.synopsisEs(),
+                existingBookDto.synopsisEn(),
+                existingBookDto.basePrice(),
+                existingBookDto.discountPercentage(),
+                null,
+                existingBookDto.cover(),
+                existingBookDto.publicationDate(),
+                existingBookDto.publisher(),
+                existingBookDto.authors()
+        );
+        mockBulkLookups();
+        List<List<BookEntity>> savedBatches = new ArrayList<>();
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> {
+            savedBatches.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        BookImportReport report = bookServiceImpl.upsertAll(Stream.of(
+                changedBookDto,
+                newBookDto("9999999999991", publisherDtos.getFirst(), List.of(authorDtos.getFirst()))
+        ));
+
+        assertAll(
+                () -> assertEquals(BookImportResult.Status.UPDATED, report.results().get(0).status()),
+                () -> assertEquals(BookImportResult.Status.CREATED, report.results().get(1).status()),
+                () -> assertEquals(1, savedBatches.size(), "Books should be saved in a single batch"),
+                () -> assertEquals(bookEntities.getFirst().id(), savedBatches.getFirst().getFirst().id(), "Existing id should be kept"),
+                () -> assertEquals("Updated Title ES", savedBatches.getFirst().getFirst().titleEs()),
+                () -> assertNull(savedBatches.getFirst().get(1).id(), "New book should not have id")
+        );
+    }
+
+    @Test
+    @DisplayName("createBook with parallel lookups should resolve publisher and authors concurrently")
+    void createBook_WithParallelLookups_ShouldResolveReferences() {
+        BookDto newBookDto = newBookDto("9999999999999", publisherDtos.getFirst(), List.of(authorDtos.get(1), authorDtos.getFirst()));
+        bookServiceImpl.setParallelLookupOptions(new ParallelLookupOptions(4, Duration.ofSeconds(5), 1));
+
+        when(bookRepository.existsByIsbn(newBookDto.isbn())).thenReturn(false);
+        when(publisherRepository.findById(1L)).thenReturn(Optional.of(publisherEntities.getFirst()));
+        when(authorRepository.findAllByIds(List.of(1L))).thenReturn(List.of(authorEntities.getFirst()));
+        when(authorRepository.findAllByIds(List.of(2L))).thenReturn(List.of(authorEntities.get(1)));
+        when(bookRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BookDto createdBook = bookServiceImpl.create(newBookDto);
 
-}
\ No newline at end of file
+        assertAll(
+                () -> assertEquals(publisherDtos.getFirst().name(), createdBook.publisher().name(), "Publisher should match"),
+                () -> assertEquals(2, createdBook.authors().size(), "Number of authors should match"),
+                () -> assertEquals(authorDtos.get(1).name(), createdBook.authors().getFirst().name(), "Authors order should be kept")
+        );
+    }
+
+    @Test
+    @DisplayName("createBook with parallel lookups should report missing authors")
+    void createBook_WithParallelLookups_ShouldReportMissingAuthors() {
+        AuthorDto nonExistingAuthor = new AuthorDto(99L, "Non existing Author", null, null, null, null, null, "non-existing-author");
+        BookDto newBookDto = newBookDto("9999999999999", null, List.of(authorDtos.getFirst(), nonExistingAuthor));
+        bookServiceImpl.setParallelLookupOptions(ParallelLookupOptions.defaults());
+
+        when(bookRepository.existsByIsbn(newBookDto.isbn())).thenReturn(false);
+        when(authorRepository.findAllByIds(List.of(1L, 99L))).thenReturn(List.of(authorEntities.getFirst()));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> bookServiceImpl.create(newBookDto));
+        assertEquals("Authors with ids [99] do not exist", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("createBook with parallel lookups should fail when a lookup exceeds the timeout")
+    void createBook_WithParallelLookups_ShouldTimeOut() {
+        BookDto newBookDto = newBookDto("9999999999999", publisherDtos.getFirst(), List.of());
+        bookServiceImpl.setParallelLookupOptions(new ParallelLookupOptions(4, Duration.ofMillis(50), 10));
+
+        when(bookRepository.existsByIsbn(newBookDto.isbn())).thenReturn(false);
+        when(publisherRepository.findById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Optional.of(publisherEntities.getFirst());
+        });
+
+        long start = System.nanoTime();
+        assertThrows(BusinessException.class, () -> bookServiceImpl.create(newBookDto));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000, "Create should not wait for the slow lookup");
+    }
+
+    @Test
+    @DisplayName("search should build the index on first use and return ranked books")
+    void search_ShouldReturnRankedBooks() {
+        BookEntity littlePrince = bookEntities.getFirst();
+        when(bookRepository.streamAll()).thenReturn(bookEntities.stream());
+        when(bookRepository.findAllByIsbns(List.of(littlePrince.isbn()))).thenReturn(List.of(littlePrince));
+
+        Page<BookDto> result = bookServiceImpl.search("principito", 1, 1);
+
+        assertAll(
+                () -> assertEquals(1, result.data().size()),
+                () -> assertEquals(littlePrince.isbn(), result.data().getFirst().isbn()),
+                () -> assertTrue(result.totalElements() >= 1)
+        );
+        bookServiceImpl.search("principito", 1, 1);
+        verify(bookRepository).streamAll();
+    }
+
+    @Test
+    @DisplayName("search should find books created after the index was built")
+    void search_ShouldFindCreatedBooks() {
+        when(bookRepository.streamAll()).thenReturn(Stream.empty());
+        assertEquals(0, bookServiceImpl.search("dragones", 1, 10).totalElements());
+
+        BookDto newBookDto = new BookDto(null, "9999999999999", "El dragón de papel", "The Paper Dragon", null, null,
+                new BigDecimal("19.99"), 0.0, null, null, null, null, List.of());
+        when(bookRepository.existsByIsbn(newBookDto.isbn())).thenReturn(false);
+        when(bookRepository.save(any())).thenAnswer(invocation -> {
+            BookEntity bookEntity = invocation.getArgument(0);
+            return new BookEntity(100L, bookEntity.isbn(), bookEntity.titleEs(), bookEntity.titleEn(), null, null,
+                    bookEntity.basePrice(), bookEntity.discountPercentage(), null, null, null, List.of());
+        });
+        bookServiceImpl.create(newBookDto);
+        when(bookRepository.findAllByIsbns(List.of("9999999999999"))).thenReturn(List.of(
+                new BookEntity(100L, "9999999999999", "El dragón de papel", "The Paper Dragon", null, null,
+                        new BigDecimal("19.99"), 0.0, null, null, null, List.of())
+        ));
+
+        Page<BookDto> result = bookServiceImpl.search("dragones", 1, 10);
+
+        assertAll(
+                () -> assertEquals(1, result.totalElements()),
+                () -> assertEquals("9999999999999", result.data().getFirst().isbn())
+        );
+    }
+}
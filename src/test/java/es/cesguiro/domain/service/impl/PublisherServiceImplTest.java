@@ -20,6 +20,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +57,7 @@ class PublisherServiceImplTest {
                 publisherDto.id(),
                 "Updated Name",
                 "updated-slug");
-        when(publisherRepository.findById(publisherDto.id())).thenReturn(Optional.of(publisherEntity));
+        when(publisherRepository.existsById(publisherDto.id())).thenReturn(true);
         when(publisherRepository.save(publisherEntity)).thenReturn(updatedPublisherEntity);
 
         PublisherDto result = publisherServiceImpl.update(publisherDto);
@@ -78,7 +79,7 @@ class PublisherServiceImplTest {
                 999L,
                 "Non Existing Publisher",
                 "non-existing-publisher");
-        when(publisherRepository.findById(publisherDto.id())).thenReturn(Optional.empty());
+        when(publisherRepository.existsById(publisherDto.id())).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             publisherServiceImpl.update(publisherDto);
@@ -87,6 +88,23 @@ class PublisherServiceImplTest {
         assertEquals("Publisher with id 999 not found", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Get publisher by slug")
+    void getBySlug() {
+        PublisherEntity publisherEntity = publisherEntities.getFirst();
+        when(publisherRepository.findBySlug(publisherEntity.slug())).thenReturn(Optional.of(publisherEntity));
 
+        PublisherDto result = publisherServiceImpl.getBySlug(publisherEntity.slug());
+
+        assertEquals(publisherDtos.getFirst(), result);
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Get publisher by malformed slug throws ResourceNotFoundException without querying the repository")
+    void getBySlug_WithMalformedSlug_ThrowsResourceNotFoundException() {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> publisherServiceImpl.getBySlug("Editorial Anagrama"));
+
+        assertEquals("Publisher with slug Editorial Anagrama not found", exception.getMessage());
+        verifyNoInteractions(publisherRepository);
+    }
+}
@@ -0,0 +1,158 @@
+package es.cesguiro.domain.service.search;
+
+import es.cesguiro.data.loader.BooksDataLoader;
+import es.cesguiro.domain.repository.entity.AuthorEntity;
+import es.cesguiro.domain.repository.entity.BookEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSearchIndexTest {
+
+    private final List<BookEntity> bookEntities = new BooksDataLoader().loadBookEntitiesFromCSV();
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.rebuild(bookEntities::stream);
+    }
+
+    private static BookEntity bookEntity(Long id, String isbn, String titleEs, String titleEn, String synopsisEs, List<AuthorEntity> authors) {
+        return new BookEntity(id, isbn, titleEs, titleEn, synopsisEs, null, BigDecimal.TEN, 0.0, null, null, null, authors);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "SPANISH, 'Los Aviones del PRÍNCIPE', 'avion|princip'",
+            "SPANISH, 'luces y canciones', 'luz|cancion'",
+            "SPANISH, 'principito principitos principita', 'principit|principit|principit'",
+            "ENGLISH, 'The stories of flying boxes', 'story|fly|box'",
+            "NAME, 'Antoine de Saint-Exupéry', 'antoine|saint|exupery'"
+    })
+    @DisplayName("Analyzers should lowercase, fold accents, drop stop words and stem")
+    void analyze(TextAnalyzer analyzer, String text, String expected) {
+        assertEquals(List.of(expected.split("\\|")), analyzer.analyze(text));
+    }
+
+    @Test
+    @DisplayName("index should ignore a version older than the one already indexed")
+    void index_ShouldIgnoreStaleVersions() {
+        BookEntity newer = new BookEntity(900L, "9780000000900", "Rayuela", null, null, null, BigDecimal.TEN, 0.0, null, null, null, List.of(), 2L);
+        BookEntity older = new BookEntity(900L, "9780000000900", "Ficciones", null, null, null, BigDecimal.TEN, 0.0, null, null, null, List.of(), 1L);
+
+        index.index(newer);
+        index.index(older);
+
+        assertAll(
+                () -> assertEquals(List.of("9780000000900"), index.search("rayuela", 1, 10).isbns()),
+                () -> assertEquals(0, index.search("ficciones", 1, 10).total())
+        );
+    }
+
+    @Test
+    @DisplayName("search should find books by title in both languages and by author")
+    void search_ShouldFindByTitleAndAuthor() {
+        BookEntity littlePrince = bookEntities.getFirst();
+
+        assertAll(
+                () -> assertEquals(littlePrince.isbn(), index.search("principito", 1, 10).isbns().getFirst()),
+                () -> assertEquals(littlePrince.isbn(), index.search("little prince", 1, 10).isbns().getFirst()),
+                () -> assertEquals(littlePrince.isbn(), index.search("saint exupery", 1, 10).isbns().getFirst()),
+                () -> assertEquals(0, index.search("zzzz", 1, 10).total())
+        );
+    }
+
+    @Test
+    @DisplayName("A book indexed while the index is being rebuilt should not be lost")
+    void rebuild_ShouldKeepBooksIndexedDuringTheRebuild() throws InterruptedException {
+        BookEntity savedDuringRebuild = bookEntity(901L, "9780000000901", "Rayuela", null, null, List.of());
+        Thread writer = Thread.ofPlatform().unstarted(() -> index.index(savedDuringRebuild));
+
+        // El libro se guarda después de tomar la copia del catálogo: solo lo aporta el index concurrente
+        index.rebuild(() -> {
+            Stream<BookEntity> snapshot = List.copyOf(bookEntities).stream();
+            writer.start();
+            return snapshot;
+        });
+        writer.join();
+
+        assertEquals(List.of("9780000000901"), index.search("rayuela", 1, 10).isbns());
+    }
+
+    @Test
+    @DisplayName("A deferred index should ignore writes until it is first rebuilt")
+    void deferred_ShouldIgnoreWritesUntilRebuilt() {
+        BookSearchIndex deferred = BookSearchIndex.deferred();
+        BookEntity rayuela = bookEntity(901L, "9780000000901", "Rayuela", null, null, List.of());
+
+        deferred.index(rayuela);
+        deferred.indexAll(bookEntities);
+        int sizeBeforeRebuild = deferred.size();
+        boolean builtBeforeRebuild = deferred.isBuilt();
+        deferred.rebuild(() -> Stream.of(rayuela));
+        deferred.index(bookEntities.getFirst());
+
+        assertAll(
+                () -> assertFalse(builtBeforeRebuild),
+                () -> assertEquals(0, sizeBeforeRebuild),
+                () -> assertTrue(deferred.isBuilt()),
+                () -> assertEquals(2, deferred.size()),
+                () -> assertEquals(List.of("9780000000901"), deferred.search("rayuela", 1, 10).isbns())
+        );
+    }
+
+    @Test
+    @DisplayName("search should rank title matches above synopsis matches")
+    void search_ShouldRankTitleFirst() {
+        index.rebuild(() -> Stream.of(
+                bookEntity(1L, "1", "Otra historia", null, "Un dragón aparece al final", List.of()),
+                bookEntity(2L, "2", "El dragón", null, "Una historia", List.of())
+        ));
+
+        assertEquals(List.of("2", "1"), index.search("dragones", 1, 10).isbns());
+    }
+
+    @Test
+    @DisplayName("search should page the ranked results")
+    void search_ShouldPage() {
+        SearchHits all = index.search("chocolate niño", 1, 100);
+        SearchHits second = index.search("chocolate niño", 2, 2);
+
+        assertAll(
+                () -> assertEquals(all.total(), second.total()),
+                () -> assertEquals(all.isbns().subList(2, Math.min(4, all.isbns().size())), second.isbns()),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.search("chocolate", 0, 10))
+        );
+    }
+
+    @Test
+    @DisplayName("index and removeByIsbn should keep the index up to date")
+    void index_ShouldReplaceAndRemove() {
+        BookEntity littlePrince = bookEntities.getFirst();
+        int size = index.size();
+
+        index.index(bookEntity(littlePrince.id(), littlePrince.isbn(), "Vuelo nocturno", "Night Flight", null, List.of()));
+
+        assertAll(
+                () -> assertEquals(size, index.size()),
+                () -> assertFalse(index.search("principito", 1, 10).isbns().contains(littlePrince.isbn())),
+                () -> assertEquals(List.of(littlePrince.isbn()), index.search("nocturno", 1, 10).isbns())
+        );
+
+        index.removeByIsbn(littlePrince.isbn());
+
+        assertAll(
+                () -> assertEquals(size - 1, index.size()),
+                () -> assertEquals(0, index.search("nocturno", 1, 10).total())
+        );
+    }
+}
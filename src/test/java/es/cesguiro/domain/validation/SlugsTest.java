@@ -0,0 +1,80 @@
+package es.cesguiro.domain.validation;
+
+import es.cesguiro.data.loader.AuthorsDataLoader;
+import es.cesguiro.data.loader.PublishersDataLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlugsTest {
+
+    private static final Pattern SLUG_PATTERN = Pattern.compile("^[a-z0-9]+(?:-[a-z0-9]+)*$");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "9", "roald-dahl", "antoine-de-saint-exupery", "1984", "a-1-b-2"})
+    @DisplayName("isValid should accept URL-friendly slugs")
+    void isValid_ShouldAcceptValidSlugs(String slug) {
+        assertTrue(Slugs.isValid(slug));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"-", "-a", "a-", "a--b", "A", "roald dahl", "garcía", "año", "a_b", "a.b"})
+    @DisplayName("isValid should reject slugs that are not URL-friendly")
+    void isValid_ShouldRejectInvalidSlugs(String slug) {
+        assertFalse(Slugs.isValid(slug));
+    }
+
+    @Test
+    @DisplayName("isValid should match the previous regular expression")
+    void isValid_ShouldMatchRegex() {
+        char[] alphabet = {'a', 'z', '0', '9', '-', 'A', ' ', 'ñ'};
+        StringBuilder candidate = new StringBuilder();
+        for (int n = 0; n < 8 * 8 * 8 * 8; n++) {
+            candidate.setLength(0);
+            for (int i = n; i > 0; i /= 8) {
+                candidate.append(alphabet[i % 8]);
+            }
+            String slug = candidate.toString();
+            assertEquals(!slug.isEmpty() && SLUG_PATTERN.matcher(slug).matches(), Slugs.isValid(slug), slug);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "Gabriel García Márquez, gabriel-garcia-marquez",
+            "Año de la Ñ, ano-de-la-n",
+            "  Cien años   de soledad!!, cien-anos-de-soledad",
+            "Antoine de Saint-Exupéry, antoine-de-saint-exupery",
+            "pingüino, pinguino",
+            "1984, 1984",
+            "¿Qué?, que"
+    })
+    @DisplayName("slugify should normalize Spanish names")
+    void slugify_ShouldNormalizeNames(String name, String expected) {
+        assertEquals(expected, Slugs.slugify(name));
+    }
+
+    @Test
+    @DisplayName("slugify should return valid slugs unchanged")
+    void slugify_ShouldKeepValidSlug() {
+        String slug = "roald-dahl";
+        assertSame(slug, Slugs.slugify(slug));
+    }
+
+    @Test
+    @DisplayName("slugify should generate the slugs of the sample data")
+    void slugify_ShouldMatchSampleData() {
+        new AuthorsDataLoader().loadAuthorDtosFromCSV()
+                .forEach(author -> assertEquals(author.slug(), Slugs.slugify(author.name()), author.name()));
+        new PublishersDataLoader().loadPublisherDtosFromCSV()
+                .forEach(publisher -> assertEquals(publisher.slug(), Slugs.slugify(publisher.name()), publisher.name()));
+    }
+}
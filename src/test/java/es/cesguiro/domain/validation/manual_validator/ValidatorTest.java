@@ -0,0 +1,136 @@
+package es.cesguiro.domain.validation.manual_validator;
+
+import es.cesguiro.domain.exception.ValidationException;
+import es.cesguiro.domain.service.dto.AuthorDto;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.PublisherDto;
+import es.cesguiro.domain.validation.spring_validator.DtoValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorTest {
+
+    static Stream<Arguments> provideInvalidDataArguments() {
+        return Stream.of(
+                Arguments.of("", new BigDecimal("10.00"), 5.0, LocalDate.now()),
+                Arguments.of("123", new BigDecimal("10.00"), 5.0, LocalDate.now()),
+                Arguments.of("12345678901234", new BigDecimal("10.00"), 5.0, LocalDate.now()),
+                Arguments.of("ABCDFGERTYTGG", new BigDecimal("10.00"), 5.0, LocalDate.now()),
+                Arguments.of(null, new BigDecimal("10.00"), 5.0, LocalDate.now()),
+                Arguments.of("9999999999999", null, 5.0, LocalDate.now()),
+                Arguments.of("9999999999999", new BigDecimal("-10.00"), 5.0, LocalDate.now()),
+                Arguments.of("9999999999999", new BigDecimal("10.00"), -5.0, LocalDate.now()),
+                Arguments.of("9999999999999", new BigDecimal("10.00"), 105.0, LocalDate.now()),
+                Arguments.of("9999999999999", new BigDecimal("10.00"), null, LocalDate.now()),
+                Arguments.of("9999999999999", new BigDecimal("10.00"), 5.0, LocalDate.now().plusDays(1))
+        );
+    }
+
+    private static BookDto bookDto(String isbn, BigDecimal basePrice, Double discount, LocalDate publicationDate) {
+        return new BookDto(null, isbn, "Título", "Title", null, null, basePrice, discount, null, null, publicationDate, null, List.of());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidDataArguments")
+    @DisplayName("BookValidator should reject the same books as DtoValidator")
+    void bookValidator_ShouldRejectInvalidBooks(String isbn, BigDecimal basePrice, Double discount, LocalDate publicationDate) {
+        BookDto invalidBookDto = bookDto(isbn, basePrice, discount, publicationDate);
+
+        assertAll(
+                () -> assertFalse(BookValidator.getInstance().isValid(invalidBookDto)),
+                () -> assertEquals(1, BookValidator.getInstance().validate(invalidBookDto).size()),
+                () -> assertThrows(ValidationException.class, () -> DtoValidator.validate(invalidBookDto))
+        );
+    }
+
+    @Test
+    @DisplayName("BookValidator should accept a valid book without errors")
+    void bookValidator_ShouldAcceptValidBook() {
+        BookDto bookDto = bookDto("9788478884452", new BigDecimal("19.99"), 0.0, LocalDate.of(1997, 6, 26));
+
+        assertAll(
+                () -> assertTrue(BookValidator.getInstance().isValid(bookDto)),
+                () -> assertSame(List.of(), BookValidator.getInstance().validate(bookDto)),
+                () -> assertDoesNotThrow(() -> BookValidator.getInstance().validateOrThrow(bookDto)),
+                () -> assertDoesNotThrow(() -> DtoValidator.validate(bookDto))
+        );
+    }
+
+    @Test
+    @DisplayName("BookValidator should report every broken rule in order")
+    void bookValidator_ShouldReportAllErrors() {
+        BookDto bookDto = bookDto("123", null, 105.0, null);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> BookValidator.getInstance().validateOrThrow(bookDto));
+        assertEquals(
+                "isbn: ISBN debe tener 13 dígitos, basePrice: El precio base no puede ser nulo, discountPercentage: El descuento no puede ser mayor a 100",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    @DisplayName("BookValidator should check the publication date against its clock")
+    void bookValidator_ShouldUseClock() {
+        BookValidator validator = BookValidator.withClock(Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        assertAll(
+                () -> assertTrue(validator.isValid(bookDto("9999999999999", BigDecimal.ONE, 5.0, LocalDate.of(2020, 1, 1)))),
+                () -> assertFalse(validator.isValid(bookDto("9999999999999", BigDecimal.ONE, 5.0, LocalDate.of(2020, 1, 2))))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Gabriel-Garcia", "gabriel--garcia", "-gabriel", "gabriel-", "gabriel garcia", "garcía"})
+    @DisplayName("Author and publisher validators should reject invalid slugs")
+    void slugValidators_ShouldRejectInvalidSlugs(String slug) {
+        AuthorDto authorDto = new AuthorDto(1L, "Gabriel García Márquez", null, null, null, null, null, slug);
+        PublisherDto publisherDto = new PublisherDto(1L, "Editorial", slug);
+
+        assertAll(
+                () -> assertFalse(AuthorValidator.getInstance().isValid(authorDto)),
+                () -> assertFalse(PublisherValidator.getInstance().isValid(publisherDto))
+        );
+    }
+
+    @Test
+    @DisplayName("Author and publisher validators should require name and slug")
+    void slugValidators_ShouldRequireNameAndSlug() {
+        assertAll(
+                () -> assertEquals(
+                        List.of("name: El nombre no puede ser nulo", "slug: Valor inválido, debe ser URL-friendly (minúsculas, números y guiones)"),
+                        AuthorValidator.getInstance().validate(new AuthorDto(1L, null, null, null, null, null, null, null))
+                ),
+                () -> assertTrue(PublisherValidator.getInstance().isValid(new PublisherDto(1L, "Editorial", "editorial-2")))
+        );
+    }
+
+    @Test
+    @DisplayName("Validators should be safe to share across threads")
+    void bookValidator_ShouldBeThreadSafe() {
+        BookDto validBook = bookDto("9788478884452", new BigDecimal("19.99"), 10.0, LocalDate.of(1997, 6, 26));
+        BookDto invalidBook = bookDto("123", new BigDecimal("19.99"), 10.0, LocalDate.of(1997, 6, 26));
+
+        List<Integer> errorCounts = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> BookValidator.getInstance().validate(i % 2 == 0 ? validBook : invalidBook).size() - i % 2)
+                .filter(diff -> diff != 0)
+                .toList();
+
+        assertEquals(List.of(), errorCounts);
+    }
+}
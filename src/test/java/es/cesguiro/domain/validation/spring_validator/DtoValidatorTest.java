@@ -0,0 +1,91 @@
+package es.cesguiro.domain.validation.spring_validator;
+
+import es.cesguiro.domain.exception.ValidationException;
+import es.cesguiro.domain.service.dto.BookDto;
+import es.cesguiro.domain.service.dto.PublisherDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoValidatorTest {
+
+    private static BookDto bookDto(Long id, String isbn, BigDecimal basePrice, Double discount) {
+        return new BookDto(id, isbn, "Título", "Title", null, null, basePrice, discount, null, null, LocalDate.of(2020, 1, 1), null, List.of());
+    }
+
+    @Test
+    @DisplayName("Collect-all mode should report every violation")
+    void validate_CollectAll_ShouldReportAllViolations() {
+        BookDto invalidBookDto = bookDto(null, "123", new BigDecimal("-1"), 105.0);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> DtoValidator.validate(invalidBookDto, DtoValidator.Mode.COLLECT_ALL));
+
+        assertEquals(3, exception.getViolations().size());
+    }
+
+    @Test
+    @DisplayName("Fail-fast mode should stop at the first violation")
+    void validate_FailFast_ShouldReportOneViolation() {
+        BookDto invalidBookDto = bookDto(null, "123", new BigDecimal("-1"), 105.0);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> DtoValidator.validate(invalidBookDto, DtoValidator.Mode.FAIL_FAST));
+
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    @DisplayName("Create and update groups should check the id and the default constraints")
+    void validate_WithGroups_ShouldCheckId() {
+        BookDto withId = bookDto(1L, "9999999999999", BigDecimal.TEN, 5.0);
+        BookDto withoutId = bookDto(null, "9999999999999", BigDecimal.TEN, 5.0);
+        PublisherDto invalidPublisher = new PublisherDto(null, null, "editorial");
+
+        assertAll(
+                () -> assertDoesNotThrow(() -> DtoValidator.validate(withId)),
+                () -> assertDoesNotThrow(() -> DtoValidator.validate(withoutId, DtoValidator.Mode.COLLECT_ALL, OnCreate.class)),
+                () -> assertDoesNotThrow(() -> DtoValidator.validate(withId, DtoValidator.Mode.COLLECT_ALL, OnUpdate.class)),
+                () -> assertEquals("id: El id debe ser nulo al crear", assertThrows(ValidationException.class,
+                        () -> DtoValidator.validate(withId, DtoValidator.Mode.COLLECT_ALL, OnCreate.class)).getMessage()),
+                () -> assertEquals("id: El id es obligatorio al actualizar", assertThrows(ValidationException.class,
+                        () -> DtoValidator.validate(withoutId, DtoValidator.Mode.COLLECT_ALL, OnUpdate.class)).getMessage()),
+                () -> assertEquals(2, assertThrows(ValidationException.class,
+                        () -> DtoValidator.validate(invalidPublisher, DtoValidator.Mode.COLLECT_ALL, OnUpdate.class)).getViolations().size())
+        );
+    }
+
+    @Test
+    @DisplayName("validateAll should report errors by position")
+    void validateAll_ShouldReportErrorsByPosition() {
+        List<BookDto> bookDtos = List.of(
+                bookDto(null, "9999999999999", BigDecimal.TEN, 5.0),
+                bookDto(null, "123", BigDecimal.TEN, 5.0),
+                bookDto(null, "9999999999998", BigDecimal.TEN, 5.0),
+                bookDto(null, "9999999999997", null, 105.0)
+        );
+
+        Map<Integer, ValidationException> errors = DtoValidator.validateAll(bookDtos, DtoValidator.Mode.FAIL_FAST);
+
+        assertAll(
+                () -> assertEquals(List.of(1, 3), List.copyOf(errors.keySet())),
+                () -> assertEquals("isbn: ISBN debe tener 13 dígitos", errors.get(1).getMessage()),
+                () -> assertEquals(1, errors.get(3).getViolations().size())
+        );
+    }
+
+    @Test
+    @DisplayName("ValidationException should render its message only once")
+    void validationException_ShouldCacheMessage() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> DtoValidator.validate(bookDto(null, "123", null, 5.0)));
+
+        assertSame(exception.getMessage(), exception.getMessage());
+    }
+}